@@ -12,6 +12,8 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
@@ -33,7 +35,13 @@ public class RadiationCapabilityHandler {
 	
 	@SubscribeEvent
 	public void attachChunkRadiationCapability(AttachCapabilitiesEvent<Chunk> event) {
-		addCapability(event, IRadiationSource.CAPABILITY_RADIATION_SOURCE_NAME, new RadiationSourceProvider(0D));
+		Chunk chunk = event.getObject();
+		if (chunk.getWorld() instanceof WorldServer world) {
+			addCapability(event, IRadiationSource.CAPABILITY_RADIATION_SOURCE_NAME, new RadiationSourceProvider(new ChunkRadiationSource(world, ChunkPos.asLong(chunk.x, chunk.z))));
+		}
+		else {
+			addCapability(event, IRadiationSource.CAPABILITY_RADIATION_SOURCE_NAME, new RadiationSourceProvider(0D));
+		}
 	}
 	
 	@SubscribeEvent
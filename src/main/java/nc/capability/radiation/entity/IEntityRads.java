@@ -15,6 +15,29 @@ public interface IEntityRads extends IRadiation, ICapability<IEntityRads> {
 	
 	ResourceLocation CAPABILITY_ENTITY_RADS_NAME = new ResourceLocation(Global.MOD_ID, "capability_entity_rads");
 	
+	int SYNC_TOTAL_RADS = 1 << 0;
+	int SYNC_RADIATION_LEVEL = 1 << 1;
+	int SYNC_INTERNAL_RADIATION_RESISTANCE = 1 << 2;
+	int SYNC_EXTERNAL_RADIATION_RESISTANCE = 1 << 3;
+	int SYNC_RAD_X_USED = 1 << 4;
+	int SYNC_RAD_X_WORE_OFF = 1 << 5;
+	int SYNC_RADAWAY_BUFFER = 1 << 6;
+	int SYNC_RADAWAY_BUFFER_SLOW = 1 << 7;
+	int SYNC_POISON_BUFFER = 1 << 8;
+	int SYNC_CONSUMED = 1 << 9;
+	int SYNC_RADAWAY_COOLDOWN = 1 << 10;
+	int SYNC_RECENT_RADAWAY_ADDITION = 1 << 11;
+	int SYNC_RAD_X_COOLDOWN = 1 << 12;
+	int SYNC_RECENT_RAD_X_ADDITION = 1 << 13;
+	int SYNC_MESSAGE_COOLDOWN_TIME = 1 << 14;
+	int SYNC_RECENT_POISON_ADDITION = 1 << 15;
+	int SYNC_RADIATION_IMMUNITY_TIME = 1 << 16;
+	int SYNC_RADIATION_IMMUNITY_STAGE = 1 << 17;
+	int SYNC_SHOULD_WARN = 1 << 18;
+	int SYNC_GIVE_GUIDEBOOK = 1 << 19;
+	
+	int SYNC_ALL = (1 << 20) - 1;
+	
 	double getTotalRads();
 	
 	void setTotalRads(double newTotalRads, boolean useImmunity);
@@ -45,6 +68,10 @@ public interface IEntityRads extends IRadiation, ICapability<IEntityRads> {
 	
 	void setExternalRadiationResistance(double newExternalRadiationResistance);
 	
+	boolean getExternalRadiationResistanceDirty();
+	
+	void setExternalRadiationResistanceDirty(boolean dirty);
+	
 	default double getFullRadiationResistance() {
 		return getInternalRadiationResistance() + getExternalRadiationResistance();
 	}
@@ -126,4 +153,13 @@ public interface IEntityRads extends IRadiation, ICapability<IEntityRads> {
 	boolean getGiveGuidebook();
 	
 	void setGiveGuidebook(boolean giveGuidebook);
+	
+	/**
+	 * Bitmask of the fields which have changed since the last client sync.
+	 */
+	int getSyncDirty();
+	
+	void markSyncDirty(int fields);
+	
+	void clearSyncDirty();
 }
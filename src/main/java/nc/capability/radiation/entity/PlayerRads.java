@@ -12,6 +12,7 @@ public class PlayerRads implements IEntityRads {
 	protected double totalRads = 0D;
 	protected double radiationLevel = 0D;
 	protected double internalRadiationResistance = 0D, externalRadiationResistance = 0D;
+	protected boolean externalRadiationResistanceDirty = true;
 	protected boolean radXUsed = false;
 	protected boolean radXWoreOff = false;
 	protected double radawayBuffer = 0D, radawayBufferSlow = 0D;
@@ -28,6 +29,8 @@ public class PlayerRads implements IEntityRads {
 	protected boolean shouldWarn = false;
 	protected boolean giveGuidebook = true;
 	
+	protected int syncDirty = SYNC_ALL;
+	
 	public PlayerRads() {
 		maxRads = max_player_rads;
 	}
@@ -81,6 +84,7 @@ public class PlayerRads implements IEntityRads {
 		if (nbt.hasKey("giveGuidebook")) {
 			giveGuidebook = nbt.getBoolean("giveGuidebook");
 		}
+		syncDirty = SYNC_ALL;
 	}
 	
 	@Override
@@ -91,7 +95,7 @@ public class PlayerRads implements IEntityRads {
 	@Override
 	public void setTotalRads(double newTotalRads, boolean useImmunity) {
 		if (!useImmunity || !isImmune()) {
-			totalRads = MathHelper.clamp(newTotalRads, 0D, maxRads);
+			totalRads = sync(totalRads, MathHelper.clamp(newTotalRads, 0D, maxRads), SYNC_TOTAL_RADS);
 		}
 	}
 	
@@ -107,7 +111,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadiationLevel(double newRadiationLevel) {
-		radiationLevel = Math.max(newRadiationLevel, 0D);
+		radiationLevel = sync(radiationLevel, Math.max(newRadiationLevel, 0D), SYNC_RADIATION_LEVEL);
 	}
 	
 	@Override
@@ -117,7 +121,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setInternalRadiationResistance(double newInternalRadiationResistance) {
-		internalRadiationResistance = newInternalRadiationResistance;
+		internalRadiationResistance = sync(internalRadiationResistance, newInternalRadiationResistance, SYNC_INTERNAL_RADIATION_RESISTANCE);
 	}
 	
 	@Override
@@ -127,7 +131,17 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setExternalRadiationResistance(double newExternalRadiationResistance) {
-		externalRadiationResistance = Math.max(newExternalRadiationResistance, 0D);
+		externalRadiationResistance = sync(externalRadiationResistance, Math.max(newExternalRadiationResistance, 0D), SYNC_EXTERNAL_RADIATION_RESISTANCE);
+	}
+	
+	@Override
+	public boolean getExternalRadiationResistanceDirty() {
+		return externalRadiationResistanceDirty;
+	}
+	
+	@Override
+	public void setExternalRadiationResistanceDirty(boolean dirty) {
+		externalRadiationResistanceDirty = dirty;
 	}
 	
 	@Override
@@ -137,7 +151,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadXUsed(boolean radXUsed) {
-		this.radXUsed = radXUsed;
+		this.radXUsed = sync(this.radXUsed, radXUsed, SYNC_RAD_X_USED);
 	}
 	
 	@Override
@@ -147,7 +161,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadXWoreOff(boolean radXWoreOff) {
-		this.radXWoreOff = radXWoreOff;
+		this.radXWoreOff = sync(this.radXWoreOff, radXWoreOff, SYNC_RAD_X_WORE_OFF);
 	}
 	
 	@Override
@@ -158,10 +172,10 @@ public class PlayerRads implements IEntityRads {
 	@Override
 	public void setRadawayBuffer(boolean slow, double newBuffer) {
 		if (slow) {
-			radawayBufferSlow = Math.max(newBuffer, 0D);
+			radawayBufferSlow = sync(radawayBufferSlow, Math.max(newBuffer, 0D), SYNC_RADAWAY_BUFFER_SLOW);
 		}
 		else {
-			radawayBuffer = Math.max(newBuffer, 0D);
+			radawayBuffer = sync(radawayBuffer, Math.max(newBuffer, 0D), SYNC_RADAWAY_BUFFER);
 		}
 	}
 	
@@ -172,7 +186,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setPoisonBuffer(double newBuffer) {
-		poisonBuffer = Math.max(newBuffer, 0D);
+		poisonBuffer = sync(poisonBuffer, Math.max(newBuffer, 0D), SYNC_POISON_BUFFER);
 	}
 	
 	@Override
@@ -182,7 +196,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setConsumedMedicine(boolean consumed) {
-		this.consumed = consumed;
+		this.consumed = sync(this.consumed, consumed, SYNC_CONSUMED);
 	}
 	
 	@Override
@@ -192,7 +206,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadawayCooldown(double cooldown) {
-		radawayCooldown = Math.max(cooldown, 0D);
+		radawayCooldown = sync(radawayCooldown, Math.max(cooldown, 0D), SYNC_RADAWAY_COOLDOWN);
 	}
 	
 	@Override
@@ -207,12 +221,12 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRecentRadawayAddition(double newRecentRadawayAddition) {
-		recentRadawayAddition = Math.max(recentRadawayAddition, newRecentRadawayAddition);
+		recentRadawayAddition = sync(recentRadawayAddition, Math.max(recentRadawayAddition, newRecentRadawayAddition), SYNC_RECENT_RADAWAY_ADDITION);
 	}
 	
 	@Override
 	public void resetRecentRadawayAddition() {
-		recentRadawayAddition = 0D;
+		recentRadawayAddition = sync(recentRadawayAddition, 0D, SYNC_RECENT_RADAWAY_ADDITION);
 	}
 	
 	@Override
@@ -222,7 +236,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadXCooldown(double cooldown) {
-		radXCooldown = Math.max(cooldown, 0D);
+		radXCooldown = sync(radXCooldown, Math.max(cooldown, 0D), SYNC_RAD_X_COOLDOWN);
 	}
 	
 	@Override
@@ -237,12 +251,12 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRecentRadXAddition(double newRecentRadXAddition) {
-		recentRadXAddition = Math.max(recentRadXAddition, newRecentRadXAddition);
+		recentRadXAddition = sync(recentRadXAddition, Math.max(recentRadXAddition, newRecentRadXAddition), SYNC_RECENT_RAD_X_ADDITION);
 	}
 	
 	@Override
 	public void resetRecentRadXAddition() {
-		recentRadXAddition = 0D;
+		recentRadXAddition = sync(recentRadXAddition, 0D, SYNC_RECENT_RAD_X_ADDITION);
 	}
 	
 	@Override
@@ -252,7 +266,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setMessageCooldownTime(int messageTime) {
-		messageCooldownTime = Math.max(messageTime, 0);
+		messageCooldownTime = sync(messageCooldownTime, Math.max(messageTime, 0), SYNC_MESSAGE_COOLDOWN_TIME);
 	}
 	
 	@Override
@@ -262,12 +276,12 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRecentPoisonAddition(double newRecentPoisonAddition) {
-		recentPoisonAddition = Math.max(recentPoisonAddition, newRecentPoisonAddition);
+		recentPoisonAddition = sync(recentPoisonAddition, Math.max(recentPoisonAddition, newRecentPoisonAddition), SYNC_RECENT_POISON_ADDITION);
 	}
 	
 	@Override
 	public void resetRecentPoisonAddition() {
-		recentPoisonAddition = 0D;
+		recentPoisonAddition = sync(recentPoisonAddition, 0D, SYNC_RECENT_POISON_ADDITION);
 	}
 	
 	@Override
@@ -277,7 +291,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadiationImmunityTime(double newRadiationImmunityTime) {
-		radiationImmunityTime = Math.max(newRadiationImmunityTime, 0D);
+		radiationImmunityTime = sync(radiationImmunityTime, Math.max(newRadiationImmunityTime, 0D), SYNC_RADIATION_IMMUNITY_TIME);
 	}
 	
 	@Override
@@ -287,7 +301,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setRadiationImmunityStage(boolean newRadiationImmunityStage) {
-		radiationImmunityStage = newRadiationImmunityStage;
+		radiationImmunityStage = sync(radiationImmunityStage, newRadiationImmunityStage, SYNC_RADIATION_IMMUNITY_STAGE);
 	}
 	
 	@Override
@@ -297,7 +311,7 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setShouldWarn(boolean shouldWarn) {
-		this.shouldWarn = shouldWarn;
+		this.shouldWarn = sync(this.shouldWarn, shouldWarn, SYNC_SHOULD_WARN);
 	}
 	
 	@Override
@@ -307,6 +321,42 @@ public class PlayerRads implements IEntityRads {
 	
 	@Override
 	public void setGiveGuidebook(boolean giveGuidebook) {
-		this.giveGuidebook = giveGuidebook;
+		this.giveGuidebook = sync(this.giveGuidebook, giveGuidebook, SYNC_GIVE_GUIDEBOOK);
+	}
+	
+	@Override
+	public int getSyncDirty() {
+		return syncDirty;
+	}
+	
+	@Override
+	public void markSyncDirty(int fields) {
+		syncDirty |= fields;
+	}
+	
+	@Override
+	public void clearSyncDirty() {
+		syncDirty = 0;
+	}
+	
+	protected double sync(double oldValue, double newValue, int field) {
+		if (newValue != oldValue) {
+			syncDirty |= field;
+		}
+		return newValue;
+	}
+	
+	protected int sync(int oldValue, int newValue, int field) {
+		if (newValue != oldValue) {
+			syncDirty |= field;
+		}
+		return newValue;
+	}
+	
+	protected boolean sync(boolean oldValue, boolean newValue, int field) {
+		if (newValue != oldValue) {
+			syncDirty |= field;
+		}
+		return newValue;
 	}
 }
@@ -0,0 +1,104 @@
+package nc.capability.radiation.source;
+
+import nc.radiation.RadiationField;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.WorldServer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Chunk capability view of a {@link RadiationField} entry, kept for callers outside the world radiation tick. The entry is also saved with the chunk, and radiation data written by older versions is migrated into the field when the chunk is loaded.
+ * <p>
+ * Chunks can be attached and read on the chunk IO thread, so the field is only looked up when used, and data read with the chunk is held until {@link #onChunkLoad(RadiationField)} applies it on the server thread.
+ */
+public class ChunkRadiationSource implements IRadiationSource {
+	
+	private final WorldServer world;
+	private final long pos;
+	
+	private @Nullable NBTTagCompound pendingNBT = null;
+	
+	public ChunkRadiationSource(WorldServer world, long pos) {
+		this.world = world;
+		this.pos = pos;
+	}
+	
+	private RadiationField getField() {
+		return RadiationField.get(world);
+	}
+	
+	public void onChunkLoad(RadiationField field) {
+		if (pendingNBT != null) {
+			field.readChunkNBT(pos, pendingNBT);
+			pendingNBT = null;
+		}
+	}
+	
+	@Override
+	public NBTTagCompound writeNBT(IRadiationSource instance, EnumFacing side, NBTTagCompound nbt) {
+		if (pendingNBT != null) {
+			nbt.merge(pendingNBT);
+			return nbt;
+		}
+		
+		RadiationField field = RadiationField.getIfPresent(world);
+		if (field != null) {
+			field.writeChunkNBT(pos, nbt);
+		}
+		return nbt;
+	}
+	
+	@Override
+	public void readNBT(IRadiationSource instance, EnumFacing side, NBTTagCompound nbt) {
+		pendingNBT = nbt.hasKey("radiationLevel") ? nbt : null;
+	}
+	
+	@Override
+	public double getRadiationLevel() {
+		RadiationField field = getField();
+		return field.getRadiationLevel(field.getSlot(pos));
+	}
+	
+	@Override
+	public void setRadiationLevel(double newRads) {
+		RadiationField field = getField();
+		field.setRadiationLevel(field.getOrCreateSlot(pos), newRads);
+	}
+	
+	@Override
+	public double getRadiationBuffer() {
+		RadiationField field = getField();
+		return field.getRadiationBuffer(field.getSlot(pos));
+	}
+	
+	@Override
+	public void setRadiationBuffer(double newBuffer) {
+		RadiationField field = getField();
+		field.setRadiationBuffer(field.getOrCreateSlot(pos), newBuffer);
+	}
+	
+	@Override
+	public double getScrubbingFraction() {
+		RadiationField field = getField();
+		return field.getScrubbingFraction(field.getSlot(pos));
+	}
+	
+	@Override
+	public void setScrubbingFraction(double newFraction) {
+		RadiationField field = getField();
+		field.setScrubbingFraction(field.getOrCreateSlot(pos), newFraction);
+	}
+	
+	@Override
+	public double getEffectiveScrubberCount() {
+		RadiationField field = getField();
+		return field.getEffectiveScrubberCount(field.getSlot(pos));
+	}
+	
+	@Override
+	public void setEffectiveScrubberCount(double newScrubberCount) {
+		RadiationField field = getField();
+		field.setEffectiveScrubberCount(field.getOrCreateSlot(pos), newScrubberCount);
+	}
+}
@@ -15,6 +15,10 @@ public class RadiationSourceProvider implements ICapabilitySerializable<NBTBase>
 		
 	}
 	
+	public RadiationSourceProvider(IRadiationSource radiation) {
+		this.radiation = radiation;
+	}
+	
 	@Override
 	public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing facing) {
 		return capability == IRadiationSource.CAPABILITY_RADIATION_SOURCE;
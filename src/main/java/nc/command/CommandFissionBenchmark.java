@@ -0,0 +1,46 @@
+package nc.command;
+
+import nc.multiblock.fission.FissionReactorBenchmark;
+import nc.util.*;
+import net.minecraft.command.*;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+
+import java.util.List;
+
+public class CommandFissionBenchmark extends CommandBase {
+	
+	@Override
+	public String getName() {
+		return "nc_fission_benchmark";
+	}
+	
+	@Override
+	public String getUsage(ICommandSender sender) {
+		return "commands.nuclearcraft.fission_benchmark.usage";
+	}
+	
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+	
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length > 1) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		
+		int iterations = args.length == 0 ? 100 : parseInt(args[0], 1, 10000);
+		List<String> report = FissionReactorBenchmark.run(sender.getEntityWorld(), iterations);
+		if (report.isEmpty()) {
+			sender.sendMessage(new TextComponentString(Lang.localize("commands.nuclearcraft.fission_benchmark.none")));
+			return;
+		}
+		
+		for (String line : report) {
+			sender.sendMessage(new TextComponentString(line));
+			NCUtil.getLogger().info(line);
+		}
+	}
+}
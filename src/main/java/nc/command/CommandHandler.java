@@ -9,6 +9,8 @@ public class CommandHandler {
 		serverStartEvent.registerServerCommand(new CommandSetChunkRadiusRadiation());
 		serverStartEvent.registerServerCommand(new CommandSetWorldRadiation());
 		serverStartEvent.registerServerCommand(new CommandSetPlayerRadiation());
+		serverStartEvent.registerServerCommand(new CommandRadiationProfiler());
+		serverStartEvent.registerServerCommand(new CommandFissionBenchmark());
 		serverStartEvent.registerServerCommand(new CommandReconstructScriptAddons());
 	}
 }
@@ -0,0 +1,63 @@
+package nc.command;
+
+import nc.radiation.RadiationProfiler;
+import nc.util.Lang;
+import net.minecraft.command.*;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.*;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+public class CommandRadiationProfiler extends CommandBase {
+	
+	@Override
+	public String getName() {
+		return "nc_radiation_profiler";
+	}
+	
+	@Override
+	public String getUsage(ICommandSender sender) {
+		return "commands.nuclearcraft.radiation_profiler.usage";
+	}
+	
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+	
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length != 1) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		
+		switch (args[0]) {
+			case "start" -> {
+				RadiationProfiler.start();
+				sender.sendMessage(new TextComponentString(Lang.localize("commands.nuclearcraft.radiation_profiler.start", RadiationProfiler.WINDOW)));
+			}
+			case "stop" -> {
+				RadiationProfiler.stop();
+				sender.sendMessage(new TextComponentString(Lang.localize("commands.nuclearcraft.radiation_profiler.stop")));
+			}
+			case "reset" -> {
+				RadiationProfiler.reset();
+				sender.sendMessage(new TextComponentString(Lang.localize("commands.nuclearcraft.radiation_profiler.reset")));
+			}
+			case "dump" -> {
+				for (String line : RadiationProfiler.getReport()) {
+					sender.sendMessage(new TextComponentString(line));
+				}
+				RadiationProfiler.logReport();
+			}
+			default -> throw new WrongUsageException(getUsage(sender));
+		}
+	}
+	
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+		return args.length == 1 ? getListOfStringsMatchingLastWord(args, "start", "stop", "reset", "dump") : Collections.emptyList();
+	}
+}
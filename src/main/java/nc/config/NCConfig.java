@@ -140,6 +140,8 @@ public class NCConfig {
 	public static boolean[] fission_heat_dissipation;
 	public static double fission_emergency_cooling_multiplier;
 	public static double fission_sound_volume;
+	public static int fission_update_threads;
+	public static boolean fission_batched_component_ticking;
 	
 	public static int[] fission_thorium_fuel_time;
 	public static int[] fission_thorium_heat_generation;
@@ -265,6 +267,7 @@ public class NCConfig {
 	public static int quantum_max_qubits_live;
 	public static int quantum_max_qubits_code;
 	public static int quantum_angle_precision;
+	public static int quantum_update_threads;
 	
 	public static int[] tool_mining_level;
 	public static int[] tool_durability;
@@ -313,6 +316,7 @@ public class NCConfig {
 	public static double radiation_entity_decay_rate;
 	public static double radiation_spread_rate;
 	public static double radiation_spread_gradient;
+	public static int radiation_spread_threads;
 	public static double radiation_decay_rate;
 	public static double radiation_lowest_rate;
 	public static double radiation_chunk_limit;
@@ -352,6 +356,7 @@ public class NCConfig {
 	public static String[] radiation_shielding_default_levels;
 	
 	public static boolean radiation_tile_entities;
+	public static int radiation_tile_emission_cache_visits;
 	public static boolean radiation_hardcore_stacks;
 	public static double radiation_hardcore_containers;
 	public static boolean radiation_dropped_items;
@@ -561,6 +566,8 @@ public class NCConfig {
 		fission_heat_dissipation = sync(CATEGORY_FISSION, "fission_heat_dissipation", new boolean[] {true, false}, ARRAY);
 		fission_emergency_cooling_multiplier = sync(CATEGORY_FISSION, "fission_emergency_cooling_multiplier", 1D, 0.001D, 255D);
 		fission_sound_volume = sync(CATEGORY_FISSION, "fission_sound_volume", 1D, 0D, 15D);
+		fission_update_threads = sync(CATEGORY_FISSION, "fission_update_threads", 0, 0, 64);
+		fission_batched_component_ticking = sync(CATEGORY_FISSION, "fission_batched_component_ticking", false);
 		
 		fission_thorium_fuel_time = sync(CATEGORY_FISSION, "fission_thorium_fuel_time", new int[] {14400, 14400, 18000, 11520, 18000}, 1, Integer.MAX_VALUE, ARRAY);
 		fission_thorium_heat_generation = sync(CATEGORY_FISSION, "fission_thorium_heat_generation", new int[] {40, 40, 32, 50, 32}, 0, 32767, ARRAY);
@@ -687,6 +694,7 @@ public class NCConfig {
 		quantum_max_qubits_live = sync(CATEGORY_QUANTUM, "quantum_max_qubits_live", 7, 1, 14);
 		quantum_max_qubits_code = sync(CATEGORY_QUANTUM, "quantum_max_qubits_code", 16, 1, 32);
 		quantum_angle_precision = sync(CATEGORY_QUANTUM, "quantum_angle_precision", 16, 4, 1024);
+		quantum_update_threads = sync(CATEGORY_QUANTUM, "quantum_update_threads", 0, 0, 64);
 		
 		tool_mining_level = sync(CATEGORY_TOOL, "tool_mining_level", new int[] {2, 2, 3, 3, 3, 3, 4, 4}, 0, 15, ARRAY);
 		tool_durability = sync(CATEGORY_TOOL, "tool_durability", new int[] {547, 547 * 5, 929, 929 * 5, 1245, 1245 * 5, 1928, 1928 * 5}, 1, 32767, ARRAY);
@@ -734,6 +742,7 @@ public class NCConfig {
 		radiation_entity_decay_rate = sync(CATEGORY_RADIATION, "radiation_entity_decay_rate", 0.001D, 0D, 1D);
 		radiation_spread_rate = sync(CATEGORY_RADIATION, "radiation_spread_rate", 0.1D, 0D, 1D);
 		radiation_spread_gradient = sync(CATEGORY_RADIATION, "radiation_spread_gradient", 0.5D, 1D, 1000000000D);
+		radiation_spread_threads = sync(CATEGORY_RADIATION, "radiation_spread_threads", 0, 0, 64);
 		radiation_decay_rate = sync(CATEGORY_RADIATION, "radiation_decay_rate", 0.001D, 0D, 1D);
 		radiation_lowest_rate = sync(CATEGORY_RADIATION, "radiation_lowest_rate", 0.000000000000001D, 0D, 1D);
 		radiation_chunk_limit = sync(CATEGORY_RADIATION, "radiation_chunk_limit", -1D, -1D, Double.MAX_VALUE);
@@ -773,6 +782,7 @@ public class NCConfig {
 		radiation_shielding_default_levels = sync(CATEGORY_RADIATION, "radiation_shielding_default_levels", new String[] {"nuclearcraft:helm_hazmat_2.0", "nuclearcraft:chest_hazmat_3.0", "nuclearcraft:legs_hazmat_2.0", "nuclearcraft:boots_hazmat_2.0", "ic2:hazmat_helmet_2.0", "ic2:hazmat_chestplate_3.0", "ic2:hazmat_leggings_2.0", "ic2:rubber_boots_2.0", "ic2:quantum_helmet_2.0", "ic2:quantum_chestplate_3.0", "ic2:quantum_leggings_2.0", "ic2:quantum_boots_2.0", "gravisuite:gravichestplate_3.0", "ic2:itemarmorquantumhelmet_2.0", "ic2:itemarmorquantumchestplate_3.0", "ic2:itemarmorquantumlegs_2.0", "ic2:itemarmorquantumboots_2.0", "gravisuit:gravisuit_3.0", "gravisuit:nucleargravisuit_3.0", "extraplanets:tier1_space_suit_helmet_1.0", "extraplanets:tier1_space_suit_chest_1.5", "extraplanets:tier1_space_suit_jetpack_chest_1.5", "extraplanets:tier1_space_suit_leggings_1.0", "extraplanets:tier1_space_suit_boots_1.0", "extraplanets:tier1_space_suit_gravity_boots_1.0", "extraplanets:tier2_space_suit_helmet_1.3", "extraplanets:tier2_space_suit_chest_1.95", "extraplanets:tier2_space_suit_jetpack_chest_1.95", "extraplanets:tier2_space_suit_leggings_1.3", "extraplanets:tier2_space_suit_boots_1.3", "extraplanets:tier2_space_suit_gravity_boots_1.3", "extraplanets:tier3_space_suit_helmet_1.6", "extraplanets:tier3_space_suit_chest_2.4", "extraplanets:tier3_space_suit_jetpack_chest_2.4", "extraplanets:tier3_space_suit_leggings_1.6", "extraplanets:tier3_space_suit_boots_1.6", "extraplanets:tier3_space_suit_gravity_boots_1.6", "extraplanets:tier4_space_suit_helmet_2.0", "extraplanets:tier4_space_suit_chest_3.0", "extraplanets:tier4_space_suit_jetpack_chest_3.0", "extraplanets:tier4_space_suit_leggings_2.0", "extraplanets:tier4_space_suit_boots_2.0", "extraplanets:tier4_space_suit_gravity_boots_2.0"}, LIST);
 		
 		radiation_tile_entities = sync(CATEGORY_RADIATION, "radiation_tile_entities", true);
+		radiation_tile_emission_cache_visits = sync(CATEGORY_RADIATION, "radiation_tile_emission_cache_visits", 4, 0, 1000);
 		radiation_hardcore_stacks = sync(CATEGORY_RADIATION, "radiation_hardcore_stacks", true);
 		radiation_hardcore_containers = sync(CATEGORY_RADIATION, "radiation_hardcore_containers", 0D, 0D, 1D);
 		radiation_dropped_items = sync(CATEGORY_RADIATION, "radiation_dropped_items", true);
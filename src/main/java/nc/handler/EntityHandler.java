@@ -1,5 +1,6 @@
 package nc.handler;
 
+import nc.capability.radiation.entity.IEntityRads;
 import nc.capability.radiation.source.IRadiationSource;
 import nc.entity.EntityFeralGhoul;
 import nc.radiation.RadiationHelper;
@@ -11,7 +12,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.event.entity.item.ItemExpireEvent;
-import net.minecraftforge.event.entity.living.LivingSpawnEvent;
+import net.minecraftforge.event.entity.living.*;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 import net.minecraftforge.fml.common.eventhandler.*;
 
@@ -52,6 +53,14 @@ public class EntityHandler {
 		}
 	}
 	
+	@SubscribeEvent
+	public void onLivingEquipmentChange(LivingEquipmentChangeEvent event) {
+		IEntityRads entityRads = RadiationHelper.getEntityRadiation(event.getEntityLiving());
+		if (entityRads != null) {
+			entityRads.setExternalRadiationResistanceDirty(true);
+		}
+	}
+	
 	@SubscribeEvent(priority = EventPriority.LOWEST)
 	public void onItemExpired(ItemExpireEvent event) {
 		if (event.isCanceled()) {
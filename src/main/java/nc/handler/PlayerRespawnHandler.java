@@ -5,7 +5,7 @@ import nc.capability.radiation.entity.IEntityRads;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
-import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedInEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.*;
 import vazkii.patchouli.common.item.ItemModBook;
 
 import static nc.config.NCConfig.*;
@@ -86,4 +86,20 @@ public class PlayerRespawnHandler {
 			}
 		}
 	}
+	
+	/**
+	 * The client creates a new player entity, and so fresh capabilities, on dimension change, so everything must be sent again.
+	 */
+	@SubscribeEvent
+	public void onPlayerChangedDimension(PlayerChangedDimensionEvent event) {
+		EntityPlayer player = event.player;
+		if (!player.hasCapability(IEntityRads.CAPABILITY_ENTITY_RADS, null)) {
+			return;
+		}
+		
+		IEntityRads playerRads = player.getCapability(IEntityRads.CAPABILITY_ENTITY_RADS, null);
+		if (playerRads != null) {
+			playerRads.markSyncDirty(IEntityRads.SYNC_ALL);
+		}
+	}
 }
@@ -1,7 +1,7 @@
 package nc.multiblock;
 
 import it.unimi.dsi.fastutil.longs.*;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.*;
 import nc.Global;
 import nc.multiblock.internal.MultiblockValidationError;
 import nc.tile.fluid.ITileFluid;
@@ -16,6 +16,7 @@ import net.minecraft.inventory.ItemStackHelper;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -76,6 +77,14 @@ public abstract class Multiblock<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T
 	
 	private boolean debugMode;
 	
+	/**
+	 * Scratch space for the connectivity search, reused between checks.
+	 */
+	private final Long2IntMap searchIndexMap = new Long2IntOpenHashMap();
+	private final ObjectList<T> searchParts = new ObjectArrayList<>();
+	private int[] searchQueue = new int[0];
+	private long[] searchVisited = new long[0];
+	
 	public final Class<MULTIBLOCK> multiblockClass;
 	public final Class<T> tClass;
 	
@@ -98,6 +107,8 @@ public abstract class Multiblock<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T
 		lastValidationError = null;
 		
 		debugMode = false;
+		
+		searchIndexMap.defaultReturnValue(-1);
 	}
 	
 	@Override
@@ -889,29 +900,23 @@ public abstract class Multiblock<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T
 		// Invalidate our reference coord, we'll recalculate it shortly
 		referenceCoord = null;
 		
-		// Reset visitations and find the minimum coordinate
-		Set<T> deadParts = new ObjectOpenHashSet<>();
+		// Find the minimum coordinate
 		BlockPos position;
 		T referencePart = null;
 		
 		int originalSize = connectedParts.size();
 		
-		for (T part : connectedParts) {
+		ObjectIterator<T> iterator = connectedParts.iterator();
+		while (iterator.hasNext()) {
+			T part = iterator.next();
 			position = part.getTilePos();
 			// This happens during chunk unload.
-			if (!WORLD.isBlockLoaded(position) || part.isPartInvalid()) {
-				deadParts.add(part);
+			if (!WORLD.isBlockLoaded(position) || part.isPartInvalid() || WORLD.getTileEntity(position) != part) {
+				iterator.remove();
 				onDetachBlock(part);
 				continue;
 			}
 			
-			if (WORLD.getTileEntity(position) != part) {
-				deadParts.add(part);
-				onDetachBlock(part);
-				continue;
-			}
-			
-			part.setUnvisited();
 			part.forfeitMultiblockSaveDelegate();
 			
 			if (referenceCoord == null) {
@@ -924,9 +929,6 @@ public abstract class Multiblock<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T
 			}
 		}
 		
-		connectedParts.removeAll(deadParts);
-		deadParts.clear();
-		
 		if (referencePart == null || isEmpty()) {
 			// There are no valid parts remaining. The entire multiblock was
 			// unloaded during a chunk unload. Halt.
@@ -940,49 +942,62 @@ public abstract class Multiblock<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T
 		
 		// Now visit all connected parts, breadth-first, starting from reference
 		// coord's part
-		T part;
-		LinkedList<T> partsToCheck = new LinkedList<>();
-		List<T> nearbyParts = null;
-		int visitedParts = 0;
+		// Parts are indexed by position, so the search only walks an int queue and a visited bitset rather than querying neighbouring tile entities
+		int partCount = connectedParts.size();
+		for (T part : connectedParts) {
+			searchIndexMap.put(part.getTilePos().toLong(), searchParts.size());
+			searchParts.add(part);
+		}
 		
-		partsToCheck.add(referencePart);
+		if (searchQueue.length < partCount) {
+			searchQueue = new int[partCount];
+		}
 		
-		while (!partsToCheck.isEmpty()) {
-			part = partsToCheck.removeFirst();
-			part.setVisited();
-			++visitedParts;
-			
-			nearbyParts = part.getNeighboringParts(); // Chunk-safe on server,
-			// but not on client
-			for (T nearbyPart : nearbyParts) {
-				// Ignore different machines
-				if (nearbyPart.getMultiblock() != this) {
-					continue;
-				}
-				
-				if (!nearbyPart.isVisited()) {
-					nearbyPart.setVisited();
-					partsToCheck.add(nearbyPart);
+		int visitedLength = (partCount + 63) >> 6;
+		if (searchVisited.length < visitedLength) {
+			searchVisited = new long[visitedLength];
+		}
+		else {
+			Arrays.fill(searchVisited, 0, visitedLength, 0L);
+		}
+		
+		int head = 0, visitedParts = 0;
+		int index = searchIndexMap.get(referenceCoord.toLong());
+		searchQueue[visitedParts++] = index;
+		searchVisited[index >> 6] |= 1L << index;
+		
+		BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+		while (head < visitedParts) {
+			position = searchParts.get(searchQueue[head++]).getTilePos();
+			for (EnumFacing dir : EnumFacing.VALUES) {
+				index = searchIndexMap.get(neighborPos.setPos(position.getX() + dir.getXOffset(), position.getY() + dir.getYOffset(), position.getZ() + dir.getZOffset()).toLong());
+				if (index >= 0 && (searchVisited[index >> 6] & (1L << index)) == 0L) {
+					searchVisited[index >> 6] |= 1L << index;
+					searchQueue[visitedParts++] = index;
 				}
 			}
 		}
 		
 		// Finally, remove all parts that remain disconnected.
-		Set<T> removedParts = new ObjectOpenHashSet<>();
-		for (T orphanCandidate : connectedParts) {
-			if (!orphanCandidate.isVisited()) {
-				deadParts.add(orphanCandidate);
-				orphanCandidate.onOrphaned(multiblockClass.cast(this), originalSize, visitedParts);
-				onDetachBlock(orphanCandidate);
-				removedParts.add(orphanCandidate);
+		Set<T> removedParts = null;
+		if (visitedParts < partCount) {
+			removedParts = new ObjectOpenHashSet<>();
+			for (int i = 0; i < partCount; ++i) {
+				if ((searchVisited[i >> 6] & (1L << i)) == 0L) {
+					T orphanCandidate = searchParts.get(i);
+					orphanCandidate.onOrphaned(multiblockClass.cast(this), originalSize, visitedParts);
+					onDetachBlock(orphanCandidate);
+					removedParts.add(orphanCandidate);
+				}
 			}
+			
+			// Trim any blocks that were removed.
+			connectedParts.removeAll(removedParts);
 		}
 		
-		// Trim any blocks that were invalid, or were removed.
-		connectedParts.removeAll(deadParts);
-		
-		// Cleanup. Not necessary, really.
-		deadParts.clear();
+		// Don't hold on to the parts between checks.
+		searchParts.clear();
+		searchIndexMap.clear();
 		
 		// Just in case.
 		if (referenceCoord == null) {
@@ -1,7 +1,7 @@
 package nc.multiblock;
 
 import nc.multiblock.battery.BatteryMultiblock;
-import nc.multiblock.fission.FissionReactor;
+import nc.multiblock.fission.*;
 import nc.multiblock.hx.HeatExchanger;
 import nc.multiblock.quantum.QuantumComputer;
 import nc.multiblock.rtg.RTGMultiblock;
@@ -32,6 +32,16 @@ public final class MultiblockHandler {
 	@SubscribeEvent(priority = EventPriority.NORMAL)
 	public void onWorldUnload(final WorldEvent.Unload unloadWorldEvent) {
 		MultiblockRegistry.INSTANCE.onWorldUnloaded(unloadWorldEvent.getWorld());
+		if (!unloadWorldEvent.getWorld().isRemote) {
+			FissionReactorGrid.onWorldUnload(unloadWorldEvent.getWorld());
+		}
+	}
+	
+	@SubscribeEvent(receiveCanceled = true)
+	public void onNeighborNotify(final BlockEvent.NeighborNotifyEvent event) {
+		if (!event.getWorld().isRemote) {
+			FissionReactorGrid.onBlockChange(event.getWorld(), event.getPos());
+		}
 	}
 	
 	@SubscribeEvent
@@ -2,9 +2,12 @@ package nc.multiblock;
 
 import it.unimi.dsi.fastutil.objects.*;
 import nc.tile.multiblock.ITileMultiblockPart;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.FMLLog;
 
+import java.util.*;
+
 public class MultiblockRegistry {
 	
 	private MultiblockWorldRegistry getMultiblockRegistry(final World world) {
@@ -80,6 +83,37 @@ public class MultiblockRegistry {
 		getMultiblockRegistry(world).addDirtyMultiblock(multiblock);
 	}
 	
+	/**
+	 * Registers a tile entity as being ticked by its multiblock rather than by the world.
+	 *
+	 * @param world The world the tile entity is in.
+	 * @param tile  The tile entity which will be ticked by its multiblock.
+	 */
+	public void claimTicking(final World world, final TileEntity tile) {
+		getMultiblockRegistry(world).claimTicking(tile);
+	}
+	
+	/**
+	 * Hands the ticking of a tile entity back to the world.
+	 *
+	 * @param world The world the tile entity is in.
+	 * @param tile  The tile entity which will no longer be ticked by its multiblock.
+	 */
+	public void releaseTicking(final World world, final TileEntity tile) {
+		getMultiblockRegistry(world).releaseTicking(tile);
+	}
+	
+	/**
+	 * Use this only if you know what you're doing. You should rarely need to iterate over all multiblocks in a world!
+	 *
+	 * @param world The world to get the multiblocks of
+	 * @return An (unmodifiable) set of multiblocks which are active in the world.
+	 */
+	@SuppressWarnings("rawtypes")
+	public Set<Multiblock> getMultiblocks(final World world) {
+		return _registries.containsKey(world) ? _registries.get(world).getMultiblocks() : Collections.emptySet();
+	}
+	
 	// Private implementation
 	
 	/**
@@ -92,6 +126,7 @@ public class MultiblockRegistry {
 			final MultiblockWorldRegistry registry = _registries.get(world);
 			registry.processMultiblockChanges();
 			registry.tickStart();
+			registry.processTickingChanges();
 		}
 	}
 	
@@ -6,6 +6,7 @@ import nc.tile.multiblock.ITileMultiblockPart;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.*;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.FMLLog;
 
 import java.util.*;
@@ -43,6 +44,29 @@ public class MultiblockWorldRegistry {
 	private final Object partsAwaitingChunkLoadMutex;
 	private final Object orphanedPartsMutex;
 	
+	// Tile entities whose ticking has been taken over by or handed back from their multiblocks
+	// The world's list of tickable tile entities is only updated at the end of the multiblock tick, never while the world is iterating over it
+	private final ReferenceSet<TileEntity> tilesToUntick;
+	private final ReferenceSet<TileEntity> tilesToRetick;
+	
+	private static final Comparator<ITileMultiblockPart> ORPHAN_ORDER = (a, b) -> {
+		BlockPos posA = a.getTilePos(), posB = b.getTilePos();
+		int compare = Integer.compare(posA.getX() >> 4, posB.getX() >> 4);
+		if (compare == 0) {
+			compare = Integer.compare(posA.getZ() >> 4, posB.getZ() >> 4);
+		}
+		if (compare == 0) {
+			compare = Integer.compare(posA.getX(), posB.getX());
+		}
+		if (compare == 0) {
+			compare = Integer.compare(posA.getY(), posB.getY());
+		}
+		if (compare == 0) {
+			compare = Integer.compare(posA.getZ(), posB.getZ());
+		}
+		return compare;
+	};
+	
 	public MultiblockWorldRegistry(final World world) {
 		worldObj = world;
 		
@@ -56,6 +80,9 @@ public class MultiblockWorldRegistry {
 		partsAwaitingChunkLoad = new Long2ObjectOpenHashMap<>();
 		partsAwaitingChunkLoadMutex = new Object();
 		orphanedPartsMutex = new Object();
+		
+		tilesToUntick = new ReferenceOpenHashSet<>();
+		tilesToRetick = new ReferenceOpenHashSet<>();
 	}
 	
 	/**
@@ -79,6 +106,25 @@ public class MultiblockWorldRegistry {
 		}
 	}
 	
+	/**
+	 * Returns the representative of the multiblock's merge set, registering the multiblock as its own set if it has not been seen yet. Paths are halved on the way up, so repeated lookups stay near constant time.
+	 */
+	private static Multiblock findMergeRoot(Reference2ReferenceMap<Multiblock, Multiblock> mergeParents, Multiblock multiblock) {
+		Multiblock parent = mergeParents.get(multiblock);
+		if (parent == null) {
+			mergeParents.put(multiblock, multiblock);
+			return multiblock;
+		}
+		
+		while (parent != multiblock) {
+			Multiblock grandparent = mergeParents.get(parent);
+			mergeParents.put(multiblock, grandparent);
+			multiblock = grandparent;
+			parent = mergeParents.get(multiblock);
+		}
+		return multiblock;
+	}
+	
 	/**
 	 * Called prior to processing multiblocks. Do bookkeeping.
 	 */
@@ -107,11 +153,27 @@ public class MultiblockWorldRegistry {
 				// IChunkProvider chunkProvider = this.worldObj.getChunkProvider();
 				Set<Multiblock> compatibleMultiblocks;
 				
+				// Process orphans chunk by chunk, in coordinate order within each chunk.
+				// Every orphan then has its lower neighbours processed before it, so most attach to an existing multiblock rather than creating one which must be merged later.
+				ITileMultiblockPart[] orphans = orphansToProcess.toArray(new ITileMultiblockPart[0]);
+				Arrays.sort(orphans, ORPHAN_ORDER);
+				
+				// Multiblocks which should be merged are joined in a disjoint-set forest, so merge pools are found without comparing against every existing pool.
+				Reference2ReferenceMap<Multiblock, Multiblock> mergeParents = null;
+				
+				long chunkKey = Long.MIN_VALUE;
+				boolean chunkLoaded = false;
+				
 				// Process orphaned blocks
 				// These are blocks that exist in a valid chunk and require a multiblock
-				for (ITileMultiblockPart orphan : orphansToProcess) {
+				for (ITileMultiblockPart orphan : orphans) {
 					coord = orphan.getTilePos();
-					if (!worldObj.isBlockLoaded(coord)) {
+					long orphanChunkKey = ChunkPos.asLong(coord.getX() >> 4, coord.getZ() >> 4);
+					if (orphanChunkKey != chunkKey) {
+						chunkKey = orphanChunkKey;
+						chunkLoaded = worldObj.isBlockLoaded(coord);
+					}
+					if (!chunkLoaded) {
 						continue;
 					}
 					
@@ -136,43 +198,39 @@ public class MultiblockWorldRegistry {
 						multiblocks.add(newMultiblock);
 					}
 					else if (compatibleMultiblocks.size() > 1) {
-						if (mergePools == null) {
-							mergePools = new ArrayList<>();
+						if (mergeParents == null) {
+							mergeParents = new Reference2ReferenceOpenHashMap<>();
 						}
 						
 						// THIS IS THE ONLY PLACE WHERE MERGES ARE DETECTED
 						// Multiple compatible multiblocks indicates an impending merge.
-						// Locate the appropriate merge pool(s)
-						// boolean hasAddedToPool = false;
-						List<Set<Multiblock>> candidatePools = new ArrayList<>();
-						for (Set<Multiblock> candidatePool : mergePools) {
-							if (!Collections.disjoint(candidatePool, compatibleMultiblocks)) {
-								// They share at least one element, so that means they will all touch after the merge
-								candidatePools.add(candidatePool);
+						// They will all touch after the merge, so join their sets.
+						Multiblock root = null;
+						for (Multiblock multiblock : compatibleMultiblocks) {
+							Multiblock other = findMergeRoot(mergeParents, multiblock);
+							if (root == null) {
+								root = other;
 							}
-						}
-						
-						if (candidatePools.isEmpty()) {
-							// No pools nearby, create a new merge pool
-							mergePools.add(compatibleMultiblocks);
-						}
-						else if (candidatePools.size() == 1) {
-							// Only one pool nearby, simply add to that one
-							candidatePools.get(0).addAll(compatibleMultiblocks);
-						}
-						else {
-							// Multiple pools - merge into one, then add the compatible multiblocks
-							Set<Multiblock> masterPool = candidatePools.get(0);
-							Set<Multiblock> consumedPool;
-							for (int i = 1; i < candidatePools.size(); ++i) {
-								consumedPool = candidatePools.get(i);
-								masterPool.addAll(consumedPool);
-								mergePools.remove(consumedPool);
+							else if (other != root) {
+								mergeParents.put(other, root);
 							}
-							masterPool.addAll(compatibleMultiblocks);
 						}
 					}
 				}
+				
+				if (mergeParents != null) {
+					Reference2ObjectMap<Multiblock, Set<Multiblock>> poolMap = new Reference2ObjectOpenHashMap<>();
+					for (Multiblock multiblock : mergeParents.keySet()) {
+						Multiblock root = findMergeRoot(mergeParents, multiblock);
+						Set<Multiblock> pool = poolMap.get(root);
+						if (pool == null) {
+							pool = new ObjectOpenHashSet<>();
+							poolMap.put(root, pool);
+						}
+						pool.add(multiblock);
+					}
+					mergePools = new ArrayList<>(poolMap.values());
+				}
 			}
 		}
 		
@@ -335,6 +393,9 @@ public class MultiblockWorldRegistry {
 		
 		detachedParts.clear();
 		
+		tilesToUntick.clear();
+		tilesToRetick.clear();
+		
 		synchronized (partsAwaitingChunkLoadMutex) {
 			partsAwaitingChunkLoad.clear();
 		}
@@ -382,6 +443,48 @@ public class MultiblockWorldRegistry {
 		dirtyMultiblocks.add(dirtyMultiblock);
 	}
 	
+	/**
+	 * Registers a tile entity as being ticked by its multiblock. It will be removed from the world's list of tickable tile entities at the end of the next multiblock tick.
+	 *
+	 * @param tile The tile entity which will be ticked by its multiblock.
+	 */
+	public void claimTicking(TileEntity tile) {
+		if (!tilesToRetick.remove(tile)) {
+			tilesToUntick.add(tile);
+		}
+	}
+	
+	/**
+	 * Hands the ticking of a tile entity back to the world. It will be added back to the world's list of tickable tile entities at the end of the next multiblock tick, if it is still loaded.
+	 *
+	 * @param tile The tile entity which will no longer be ticked by its multiblock.
+	 */
+	public void releaseTicking(TileEntity tile) {
+		if (!tilesToUntick.remove(tile)) {
+			tilesToRetick.add(tile);
+		}
+	}
+	
+	/**
+	 * Called after multiblocks have been ticked. Applies claimed and released tile entity ticking to the world.
+	 */
+	public void processTickingChanges() {
+		if (!tilesToUntick.isEmpty()) {
+			worldObj.tickableTileEntities.removeAll(tilesToUntick);
+			tilesToUntick.clear();
+		}
+		
+		if (!tilesToRetick.isEmpty()) {
+			for (TileEntity tile : tilesToRetick) {
+				BlockPos pos = tile.getPos();
+				if (!tile.isInvalid() && worldObj.isBlockLoaded(pos) && worldObj.getChunk(pos).getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK) == tile) {
+					worldObj.tickableTileEntities.add(tile);
+				}
+			}
+			tilesToRetick.clear();
+		}
+	}
+	
 	/**
 	 * Use this only if you know what you're doing. You should rarely need to iterate over all multiblocks in a world!
 	 *
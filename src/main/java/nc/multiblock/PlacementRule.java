@@ -47,6 +47,13 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 		return requiresRecheck;
 	}
 	
+	/**
+	 * Return true if the result can only change with the blocks at the tile's and adjacent positions, rather than with the state of the multiblock's components, so it can be cached per position.
+	 */
+	public boolean isStructural() {
+		return false;
+	}
+	
 	public abstract boolean satisfied(T tile);
 	
 	// Setup
@@ -117,8 +124,16 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 	
 	public static abstract class BasicCompoundRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T extends ITileMultiblockPart<MULTIBLOCK, T>> extends PlacementRule<MULTIBLOCK, T> {
 		
+		protected final boolean structural;
+		
 		public BasicCompoundRule(List<PlacementRule<MULTIBLOCK, T>> rules) {
 			super(rules, concatDependencies(rules), mergeRequiresRecheck(rules));
+			structural = mergeStructural(rules);
+		}
+		
+		@Override
+		public boolean isStructural() {
+			return structural;
 		}
 		
 		@Override
@@ -230,6 +245,18 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 		return requiresRecheck;
 	}
 	
+	public static <MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T extends ITileMultiblockPart<MULTIBLOCK, T>> boolean mergeStructural(List<PlacementRule<MULTIBLOCK, T>> rules) {
+		if (rules.isEmpty()) {
+			return false;
+		}
+		for (PlacementRule<MULTIBLOCK, T> rule : rules) {
+			if (!rule.isStructural()) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	// Basic Sub-Rule
 	
 	public static abstract class Adjacent<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>, T extends ITileMultiblockPart<MULTIBLOCK, T>> extends PlacementRule<MULTIBLOCK, T> {
@@ -323,7 +350,7 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 			}
 			else if (adjType == AdjacencyType.AXIAL) {
 				if (countType == CountType.EXACTLY) {
-					boolean[] dirs = new boolean[] {false, false, false, false, false, false};
+					int dirs = 0;
 					for (EnumFacing dir : EnumFacing.VALUES) {
 						if (satisfied(tile, dir)) {
 							++count;
@@ -331,7 +358,7 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 								return false;
 							}
 							
-							dirs[dir.getIndex()] = true;
+							dirs |= 1 << dir.getIndex();
 						}
 					}
 					if (count != amount) {
@@ -339,13 +366,13 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 					}
 					
 					count = 0;
-					if (dirs[0] && dirs[1]) {
+					if ((dirs & 0b000011) == 0b000011) {
 						++count;
 					}
-					if (dirs[2] && dirs[3]) {
+					if ((dirs & 0b001100) == 0b001100) {
 						++count;
 					}
-					if (dirs[4] && dirs[5]) {
+					if ((dirs & 0b110000) == 0b110000) {
 						++count;
 					}
 					return count == amount / 2;
@@ -373,7 +400,7 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 			}
 			else {
 				if (countType == CountType.EXACTLY) {
-					boolean[] dirs = new boolean[] {false, false, false, false, false, false};
+					int dirs = 0;
 					for (EnumFacing dir : EnumFacing.VALUES) {
 						if (satisfied(tile, dir)) {
 							++count;
@@ -381,7 +408,7 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 								return false;
 							}
 							
-							dirs[dir.getIndex()] = true;
+							dirs |= 1 << dir.getIndex();
 						}
 					}
 					if (count != amount) {
@@ -391,7 +418,7 @@ public abstract class PlacementRule<MULTIBLOCK extends Multiblock<MULTIBLOCK, T>
 					loop:
 					for (EnumFacing[] typeDirs : (adjType == AdjacencyType.VERTEX ? PosHelper.VERTEX_DIRS : PosHelper.EDGE_DIRS)) {
 						for (EnumFacing dir : typeDirs) {
-							if (!dirs[dir.getIndex()]) {
+							if ((dirs & (1 << dir.getIndex())) == 0) {
 								continue loop;
 							}
 						}
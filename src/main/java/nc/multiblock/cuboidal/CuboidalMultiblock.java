@@ -3,13 +3,16 @@ package nc.multiblock.cuboidal;
 import nc.multiblock.Multiblock;
 import nc.multiblock.internal.MultiblockValidationError;
 import nc.util.NCMath;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
 import javax.vecmath.Vector3f;
+import java.lang.reflect.Array;
 
 public abstract class CuboidalMultiblock<MULTIBLOCK extends CuboidalMultiblock<MULTIBLOCK, T>, T extends ITileCuboidalMultiblockPart<MULTIBLOCK, T>> extends Multiblock<MULTIBLOCK, T> {
 	
@@ -77,7 +80,10 @@ public abstract class CuboidalMultiblock<MULTIBLOCK extends CuboidalMultiblock<M
 		
 		// Now we run a simple check on each block within that volume.
 		// Any block deviating = NO DEAL SIR
-		TileEntity te;
+		// Connected parts are placed into a dense array over the bounding box first, so only positions without one need to be probed in the world.
+		T[] parts = getBoundingBoxParts(minX, minY, minZ, deltaX, deltaY, deltaZ);
+		MutableBlockPos mutablePos = new MutableBlockPos();
+		Chunk chunk = null;
 		T part;
 		int extremes;
 		boolean isPartValid;
@@ -85,28 +91,35 @@ public abstract class CuboidalMultiblock<MULTIBLOCK extends CuboidalMultiblock<M
 		for (int x = minX; x <= maxX; ++x) {
 			for (int y = minY; y <= maxY; ++y) {
 				for (int z = minZ; z <= maxZ; ++z) {
-					// Okay, figure out what sort of block this should be.
-					BlockPos pos = new BlockPos(x, y, z);
+					part = parts[((z - minZ) * deltaY + y - minY) * deltaX + x - minX];
 					
-					te = WORLD.getTileEntity(pos);
-					if (tClass.isInstance(te)) {
-						part = tClass.cast(te);
-						
-						// Ensure this part should actually be allowed within a cuboid of this multiblock's type
-						if (!multiblockClass.equals(part.getMultiblockClass())) {
-							setLastError("zerocore.api.nc.multiblock.validation.invalid_part", pos, x, y, z);
-							return false;
+					// Okay, figure out what sort of block this should be.
+					BlockPos pos;
+					if (part != null) {
+						pos = part.getTilePos();
+					}
+					else {
+						if (chunk == null || chunk.x != x >> 4 || chunk.z != z >> 4) {
+							chunk = WORLD.getChunk(x >> 4, z >> 4);
 						}
 						
-						// Ensure this part is actually connected to this multiblock
-						if (part.getMultiblock() != this) {
-							setLastError("zerocore.api.nc.multiblock.validation.invalid_part_disconnected", pos, x, y, z);
+						// Blocks without tile entities are identified from the chunk's block storage alone.
+						IBlockState state = chunk.getBlockState(x, y, z);
+						TileEntity te = state.getBlock().hasTileEntity(state) ? chunk.getTileEntity(mutablePos.setPos(x, y, z), Chunk.EnumCreateEntityType.CHECK) : null;
+						pos = new BlockPos(x, y, z);
+						
+						if (tClass.isInstance(te)) {
+							// Any part of this type which is not connected to this multiblock is invalid
+							if (!multiblockClass.equals(tClass.cast(te).getMultiblockClass())) {
+								setLastError("zerocore.api.nc.multiblock.validation.invalid_part", pos, x, y, z);
+							}
+							else {
+								setLastError("zerocore.api.nc.multiblock.validation.invalid_part_disconnected", pos, x, y, z);
+							}
 							return false;
 						}
-					}
-					else {
+						
 						// This is permitted so that we can incorporate certain non-multiblock parts inside interiors
-						part = null;
 					}
 					
 					// Validate block type against both part-level and material-level validators.
@@ -195,6 +208,16 @@ public abstract class CuboidalMultiblock<MULTIBLOCK extends CuboidalMultiblock<M
 		return true;
 	}
 	
+	@SuppressWarnings("unchecked")
+	protected T[] getBoundingBoxParts(int minX, int minY, int minZ, int deltaX, int deltaY, int deltaZ) {
+		T[] parts = (T[]) Array.newInstance(tClass, deltaX * deltaY * deltaZ);
+		for (T part : connectedParts) {
+			BlockPos pos = part.getTilePos();
+			parts[((pos.getZ() - minZ) * deltaY + pos.getY() - minY) * deltaX + pos.getX() - minX] = part;
+		}
+		return parts;
+	}
+	
 	protected BlockPos getMinimumInteriorCoord() {
 		return new BlockPos(getMinInteriorX(), getMinInteriorY(), getMinInteriorZ());
 	}
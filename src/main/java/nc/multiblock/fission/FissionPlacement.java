@@ -4,11 +4,9 @@ import it.unimi.dsi.fastutil.objects.*;
 import nc.init.NCBlocks;
 import nc.multiblock.PlacementRule;
 import nc.multiblock.PlacementRule.*;
-import nc.recipe.*;
 import nc.tile.fission.*;
 import nc.util.StringHelper;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 
@@ -279,6 +277,11 @@ public abstract class FissionPlacement {
 			super("reactor_casing", amount, countType, adjType);
 		}
 		
+		@Override
+		public boolean isStructural() {
+			return true;
+		}
+		
 		@Override
 		public boolean satisfied(IFissionPart part, EnumFacing dir) {
 			return isCasing(part.getMultiblock(), part.getTilePos().offset(dir));
@@ -291,6 +294,11 @@ public abstract class FissionPlacement {
 			super("conductor", amount, countType, adjType);
 		}
 		
+		@Override
+		public boolean isStructural() {
+			return true;
+		}
+		
 		@Override
 		public boolean satisfied(IFissionPart part, EnumFacing dir) {
 			return isConductor(part.getMultiblock(), part.getTilePos().offset(dir));
@@ -418,51 +426,53 @@ public abstract class FissionPlacement {
 	// Helper Methods
 	
 	public static boolean isCasing(FissionReactor reactor, BlockPos pos) {
-		TileEntity tile = reactor.WORLD.getTileEntity(pos);
-		return tile instanceof TileFissionPart && ((TileFissionPart) tile).getPartPositionType().isGoodForWall();
+		return reactor.getGrid().isCasing(pos);
+	}
+	
+	/**
+	 * Looks up interior components through the reactor's grid rather than the part maps.
+	 */
+	public static @Nullable IFissionComponent getComponent(FissionReactor reactor, BlockPos pos) {
+		FissionReactorGrid grid = reactor.getGrid();
+		int index = grid.getIndex(pos);
+		return index < 0 ? null : grid.getComponent(index);
 	}
 	
 	public static boolean isConductor(FissionReactor reactor, BlockPos pos) {
-		return reactor.getPartMap(TileFissionConductor.class).get(pos.toLong()) != null;
+		return getComponent(reactor, pos) instanceof TileFissionConductor;
 	}
 	
 	public static boolean isActiveModerator(FissionReactor reactor, BlockPos pos) {
-		IFissionComponent component = reactor.getPartMap(IFissionComponent.class).get(pos.toLong());
-		return (component != null && component.isActiveModerator()) || (reactor.activeModeratorCache.contains(pos.toLong()) && RecipeHelper.blockRecipe(NCRecipes.fission_moderator, reactor.WORLD, pos) != null);
+		IFissionComponent component = getComponent(reactor, pos);
+		return (component != null && component.isActiveModerator()) || (reactor.activeModeratorCache.contains(pos.toLong()) && reactor.isModerator(pos));
 	}
 	
 	public static boolean isActiveReflector(FissionReactor reactor, BlockPos pos) {
-		return reactor.activeReflectorCache.contains(pos.toLong()) && RecipeHelper.blockRecipe(NCRecipes.fission_reflector, reactor.WORLD, pos) != null;
+		return reactor.activeReflectorCache.contains(pos.toLong()) && reactor.isReflector(pos);
 	}
 	
 	public static boolean isFunctionalIrradiator(FissionReactor reactor, BlockPos pos) {
-		TileFissionIrradiator irradiator = reactor.getPartMap(TileFissionIrradiator.class).get(pos.toLong());
-		return irradiator != null && irradiator.isFunctional();
+		return getComponent(reactor, pos) instanceof TileFissionIrradiator irradiator && irradiator.isFunctional();
 	}
 	
 	public static boolean isFunctionalShield(FissionReactor reactor, BlockPos pos) {
-		TileFissionShield shield = reactor.getPartMap(TileFissionShield.class).get(pos.toLong());
-		return shield != null && shield.isFunctional();
+		return getComponent(reactor, pos) instanceof TileFissionShield shield && shield.isFunctional();
 	}
 	
 	public static boolean isFunctionalCell(FissionReactor reactor, BlockPos pos) {
-		TileSolidFissionCell cell = reactor.getPartMap(TileSolidFissionCell.class).get(pos.toLong());
-		return cell != null && cell.isFunctional();
+		return getComponent(reactor, pos) instanceof TileSolidFissionCell cell && cell.isFunctional();
 	}
 	
 	public static boolean isValidSink(FissionReactor reactor, BlockPos pos, String sinkType) {
-		TileSolidFissionSink sink = reactor.getPartMap(TileSolidFissionSink.class).get(pos.toLong());
-		return sink != null && sink.isFunctional() && (sinkType.equals("any") || sink.sinkType.equals(sinkType));
+		return getComponent(reactor, pos) instanceof TileSolidFissionSink sink && sink.isFunctional() && (sinkType.equals("any") || sink.sinkType.equals(sinkType));
 	}
 	
 	public static boolean isFunctionalVessel(FissionReactor reactor, BlockPos pos) {
-		TileSaltFissionVessel vessel = reactor.getPartMap(TileSaltFissionVessel.class).get(pos.toLong());
-		return vessel != null && vessel.isFunctional();
+		return getComponent(reactor, pos) instanceof TileSaltFissionVessel vessel && vessel.isFunctional();
 	}
 	
 	public static boolean isValidHeater(FissionReactor reactor, BlockPos pos, String heaterType) {
-		TileSaltFissionHeater heater = reactor.getPartMap(TileSaltFissionHeater.class).get(pos.toLong());
-		return heater != null && heater.isFunctional() && (heaterType.equals("any") || heater.heaterType.equals(heaterType));
+		return getComponent(reactor, pos) instanceof TileSaltFissionHeater heater && heater.isFunctional() && (heaterType.equals("any") || heater.heaterType.equals(heaterType));
 	}
 	
 	// Default Tooltip Builder
@@ -7,10 +7,13 @@ import nc.Global;
 import nc.multiblock.*;
 import nc.multiblock.cuboidal.CuboidalMultiblock;
 import nc.network.multiblock.FissionUpdatePacket;
+import nc.recipe.*;
 import nc.tile.fission.*;
 import nc.tile.multiblock.TilePartAbstract.SyncReason;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
@@ -18,6 +21,8 @@ import javax.annotation.Nonnull;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 
+import static nc.config.NCConfig.fission_batched_component_ticking;
+
 public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionPart> implements ILogicMultiblock<FissionReactor, FissionReactorLogic, IFissionPart>, IPacketMultiblock<FissionReactor, IFissionPart, FissionUpdatePacket> {
 	
 	public static final ObjectSet<Class<? extends IFissionPart>> PART_CLASSES = new ObjectOpenHashSet<>();
@@ -30,6 +35,9 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 	public int clusterCount = 0;
 	
 	protected final ObjectSet<FissionCluster> clustersToRefresh = new ObjectOpenHashSet<>();
+	protected final ObjectSet<IFissionFuelComponent> fuelComponentsToRefresh = new ObjectOpenHashSet<>();
+	
+	protected final ObjectSet<FissionCluster> clusterSortCache = new ObjectOpenHashSet<>();
 	
 	public IFissionController<?> controller;
 	
@@ -37,10 +45,15 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 	public final LongSet activeModeratorCache = new LongOpenHashSet();
 	public final LongSet activeReflectorCache = new LongOpenHashSet();
 	
+	protected FissionReactorGrid grid = null;
+	
+	protected final ObjectList<TileEntity> tickedComponents = new ObjectArrayList<>();
+	
 	public static final long BASE_MAX_HEAT = 25000;
 	public static final int MAX_TEMP = 2400, BASE_TANK_CAPACITY = 4000;
 	
 	public boolean refreshFlag = true, isReactorOn = false;
+	protected boolean isRefreshing = false;
 	public int ambientTemp = 290, fuelComponentCount = 0;
 	public long cooling = 0L, rawHeating = 0L, totalHeatMult = 0L, usefulPartCount = 0L;
 	public double meanHeatMult = 0D, totalEfficiency = 0D, meanEfficiency = 0D, sparsityEfficiencyMult = 0D;
@@ -85,6 +98,75 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 		meanHeatMult = totalEfficiency = meanEfficiency = sparsityEfficiencyMult = 0D;
 	}
 	
+	// Interior Grid
+	
+	/**
+	 * Lazily creates the interior grid, which is dropped whenever the reactor's geometry may have changed.
+	 */
+	public FissionReactorGrid getGrid() {
+		if (grid == null) {
+			grid = FissionReactorGrid.create(this);
+		}
+		return grid;
+	}
+	
+	public void invalidateGrid() {
+		if (grid != null) {
+			grid.unregister();
+			grid = null;
+		}
+	}
+	
+	public void invalidateGridInterior() {
+		if (grid != null) {
+			grid.invalidateInterior();
+		}
+	}
+	
+	public void invalidateGridPositions(LongCollection positions) {
+		if (grid != null) {
+			LongIterator iterator = positions.iterator();
+			while (iterator.hasNext()) {
+				grid.invalidate(BlockPos.fromLong(iterator.nextLong()));
+			}
+		}
+	}
+	
+	public boolean isModerator(BlockPos pos) {
+		FissionReactorGrid grid = getGrid();
+		int index = grid.getIndex(pos);
+		return index >= 0 ? grid.isModerator(index) : RecipeHelper.blockRecipe(NCRecipes.fission_moderator, WORLD, pos) != null;
+	}
+	
+	public boolean isReflector(BlockPos pos) {
+		FissionReactorGrid grid = getGrid();
+		int index = grid.getIndex(pos);
+		return index >= 0 ? grid.isReflector(index) : RecipeHelper.blockRecipe(NCRecipes.fission_reflector, WORLD, pos) != null;
+	}
+	
+	/**
+	 * Rules which only depend on the reactor's structure are evaluated once per position, and only again once the block there or at an adjacent position has changed.
+	 */
+	public boolean isPlacementRuleSatisfied(IFissionPart part, PlacementRule<FissionReactor, IFissionPart> rule) {
+		if (!rule.isStructural()) {
+			return rule.satisfied(part);
+		}
+		
+		FissionReactorGrid grid = getGrid();
+		int index = grid.getIndex(part.getTilePos());
+		if (index < 0) {
+			return rule.satisfied(part);
+		}
+		
+		byte placement = grid.getPlacement(index);
+		if (placement == FissionReactorGrid.PLACEMENT_UNKNOWN) {
+			boolean valid = rule.satisfied(part);
+			grid.setPlacement(index, valid);
+			return valid;
+		}
+		return placement == FissionReactorGrid.PLACEMENT_VALID;
+	}
+	
 	// Multiblock Size Limits
 	
 	@Override
@@ -108,32 +190,49 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 	@Override
 	protected void onBlockAdded(IFissionPart newPart) {
 		onPartAdded(newPart);
+		if (grid != null) {
+			grid.invalidate(newPart.getTilePos());
+		}
 		logic.onBlockAdded(newPart);
 	}
 	
 	@Override
 	protected void onBlockRemoved(IFissionPart oldPart) {
 		onPartRemoved(oldPart);
+		if (oldPart instanceof TileEntity tile && tickedComponents.remove(tile)) {
+			MultiblockRegistry.INSTANCE.releaseTicking(WORLD, tile);
+		}
+		if (grid != null) {
+			grid.invalidate(oldPart.getTilePos());
+		}
 		logic.onBlockRemoved(oldPart);
 	}
 	
 	@Override
 	protected void onMachineAssembled() {
+		invalidateGrid();
+		claimComponentTicking();
 		logic.onMachineAssembled();
 	}
 	
 	@Override
 	protected void onMachineRestored() {
+		invalidateGrid();
+		claimComponentTicking();
 		logic.onMachineRestored();
 	}
 	
 	@Override
 	protected void onMachinePaused() {
+		invalidateGrid();
+		releaseComponentTicking();
 		logic.onMachinePaused();
 	}
 	
 	@Override
 	protected void onMachineDisassembled() {
+		invalidateGrid();
+		releaseComponentTicking();
 		logic.onMachineDisassembled();
 	}
 	
@@ -168,9 +267,49 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 	
 	@Override
 	protected void onAssimilated(FissionReactor assimilator) {
+		invalidateGrid();
+		releaseComponentTicking();
 		logic.onAssimilated(assimilator);
 	}
 	
+	// Batched Ticking
+	
+	/**
+	 * Takes over the ticking of the reactor's ticking components from the world, if enabled.
+	 */
+	protected void claimComponentTicking() {
+		releaseComponentTicking();
+		if (WORLD.isRemote || !fission_batched_component_ticking) {
+			return;
+		}
+		
+		for (IFissionComponent component : getParts(IFissionComponent.class)) {
+			if (component instanceof ITickable && component instanceof TileEntity tile) {
+				tickedComponents.add(tile);
+				MultiblockRegistry.INSTANCE.claimTicking(WORLD, tile);
+			}
+		}
+	}
+	
+	protected void releaseComponentTicking() {
+		for (TileEntity tile : tickedComponents) {
+			MultiblockRegistry.INSTANCE.releaseTicking(WORLD, tile);
+		}
+		tickedComponents.clear();
+	}
+	
+	/**
+	 * Components may be removed while being ticked, in which case the next one is skipped until the next tick.
+	 */
+	protected void tickComponents() {
+		for (int i = 0; i < tickedComponents.size(); ++i) {
+			TileEntity tile = tickedComponents.get(i);
+			if (!tile.isInvalid()) {
+				((ITickable) tile).update();
+			}
+		}
+	}
+	
 	// Cluster Management
 	
 	/**
@@ -182,14 +321,27 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 		}
 	}
 	
+	/**
+	 * Use when the fuel component's state has changed but the reactor's structure has not. Only the flux network and clusters coupled to it will be refreshed.
+	 */
+	public void addFuelComponentToRefresh(IFissionFuelComponent fuelComponent) {
+		if (isRefreshing) {
+			refreshFlag = true;
+		}
+		else {
+			fuelComponentsToRefresh.add(fuelComponent);
+		}
+	}
+	
 	protected void refreshCluster(FissionCluster cluster) {
 		if (cluster != null && clusterMap.containsKey(cluster.getId())) {
+			logic.prepareClusterStatsRefresh();
 			logic.refreshClusterStats(cluster);
 		}
 	}
 	
 	protected void sortClusters() {
-		final ObjectSet<FissionCluster> uniqueClusterCache = new ObjectOpenHashSet<>();
+		final ObjectSet<FissionCluster> uniqueClusterCache = clusterSortCache;
 		uniqueClusterCache.addAll(clusterMap.values());
 		clusterMap.clear();
 		int i = 0;
@@ -199,6 +351,7 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 			++i;
 		}
 		clusterCount = clusterMap.size();
+		uniqueClusterCache.clear();
 	}
 	
 	public void mergeClusters(int assimilatorId, FissionCluster targetCluster) {
@@ -224,19 +377,22 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 	
 	@Override
 	protected boolean updateServer() {
-		boolean flag = refreshFlag;
+		boolean flag = refreshFlag || !fuelComponentsToRefresh.isEmpty();
 		
 		if (refreshFlag) {
 			logic.refreshReactor();
-			clustersToRefresh.clear();
 		}
-		else if (!clustersToRefresh.isEmpty()) {
+		else if (!fuelComponentsToRefresh.isEmpty() || !clustersToRefresh.isEmpty()) {
+			if (!fuelComponentsToRefresh.isEmpty()) {
+				logic.refreshFuelComponents(fuelComponentsToRefresh);
+			}
 			for (FissionCluster cluster : clustersToRefresh) {
 				refreshCluster(cluster);
 			}
 			logic.refreshReactorStats();
-			clustersToRefresh.clear();
 		}
+		fuelComponentsToRefresh.clear();
+		clustersToRefresh.clear();
 		
 		updateActivity();
 		
@@ -249,6 +405,8 @@ public class FissionReactor extends CuboidalMultiblock<FissionReactor, IFissionP
 			sendMultiblockUpdatePacketToListeners();
 		}
 		
+		tickComponents();
+		
 		return flag;
 	}
 	
@@ -0,0 +1,57 @@
+package nc.multiblock.fission;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import nc.multiblock.*;
+import nc.tile.fission.IFissionComponent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.*;
+
+/**
+ * Times full refreshes of the assembled fission reactors in a world, so the cost of the flux, cluster and stats computations of real designs can be compared between versions. The first refresh of each reactor is made with a fresh interior grid and reported separately.
+ */
+public class FissionReactorBenchmark {
+	
+	public static final int WARMUP = 5;
+	
+	@SuppressWarnings("rawtypes")
+	public static List<String> run(World world, int iterations) {
+		List<String> report = new ObjectArrayList<>();
+		for (Multiblock multiblock : MultiblockRegistry.INSTANCE.getMultiblocks(world)) {
+			if (multiblock instanceof FissionReactor reactor && reactor.isAssembled()) {
+				report.add(benchmark(reactor, iterations));
+			}
+		}
+		return report;
+	}
+	
+	public static String benchmark(FissionReactor reactor, int iterations) {
+		FissionReactorLogic logic = reactor.getLogic();
+		
+		reactor.invalidateGrid();
+		long coldTime = System.nanoTime();
+		logic.refreshReactor();
+		coldTime = System.nanoTime() - coldTime;
+		
+		for (int i = 0; i < WARMUP; ++i) {
+			logic.refreshReactor();
+		}
+		
+		long[] times = new long[iterations];
+		for (int i = 0; i < iterations; ++i) {
+			long startTime = System.nanoTime();
+			logic.refreshReactor();
+			times[i] = System.nanoTime() - startTime;
+		}
+		Arrays.sort(times);
+		
+		double sum = 0D;
+		for (long time : times) {
+			sum += time;
+		}
+		
+		BlockPos pos = reactor.getMiddleCoord();
+		return String.format("%s reactor at (%d, %d, %d), %dx%dx%d interior, %d components, %d clusters: cold %.1f us, mean %.1f us, p50 %.1f us, p90 %.1f us, max %.1f us over %d refreshes", logic.getID(), pos.getX(), pos.getY(), pos.getZ(), reactor.getInteriorLengthX(), reactor.getInteriorLengthY(), reactor.getInteriorLengthZ(), reactor.getPartCount(IFissionComponent.class), reactor.getClusterMap().size(), coldTime / 1000D, sum / iterations / 1000D, times[iterations / 2] / 1000D, times[Math.min(iterations - 1, (int) (0.9D * iterations))] / 1000D, times[iterations - 1] / 1000D, iterations);
+	}
+}
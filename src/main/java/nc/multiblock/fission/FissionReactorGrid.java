@@ -0,0 +1,294 @@
+package nc.multiblock.fission;
+
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.*;
+import nc.recipe.*;
+import nc.tile.fission.*;
+import nc.tile.fission.IFissionFuelComponent.ModeratorBlockInfo;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Packed voxel model of an assembled fission reactor's interior, indexed by position. Each position is lazily resolved to its component, moderator stats and reflector stats, so flux and cluster searches can walk indices rather than looking up part maps, positions and block recipes. As not every block change fires a neighbor notify event, resolved positions are also dropped at the start of each refresh, so they are only kept for the length of one.
+ */
+public class FissionReactorGrid {
+	
+	protected static final byte RESOLVED = 1, COMPONENT = 2, MODERATOR = 4, REFLECTOR = 8;
+	
+	public static final byte PLACEMENT_UNKNOWN = 0, PLACEMENT_INVALID = 1, PLACEMENT_VALID = 2;
+	
+	private static final Int2ObjectMap<ObjectSet<FissionReactorGrid>> GRID_MAP = new Int2ObjectOpenHashMap<>();
+	
+	protected final FissionReactor reactor;
+	protected final int dimension;
+	
+	protected final int minX, minY, minZ, lengthX, lengthY, lengthZ;
+	
+	protected final long[] positions;
+	protected final byte[] flags;
+	protected final IFissionComponent[] components;
+	protected final BasicRecipe[] moderatorRecipes, reflectorRecipes;
+	protected final long[] moderatorFluxFactors;
+	protected final double[] moderatorEfficiencies, reflectorEfficiencies, reflectorReflectivities;
+	
+	protected final byte[] placements;
+	protected final Long2BooleanMap casingCache = new Long2BooleanOpenHashMap();
+	
+	protected FissionReactorGrid(FissionReactor reactor) {
+		this.reactor = reactor;
+		dimension = reactor.WORLD.provider.getDimension();
+		
+		minX = reactor.getMinInteriorX();
+		minY = reactor.getMinInteriorY();
+		minZ = reactor.getMinInteriorZ();
+		lengthX = reactor.getInteriorLengthX();
+		lengthY = reactor.getInteriorLengthY();
+		lengthZ = reactor.getInteriorLengthZ();
+		
+		int volume = lengthX * lengthY * lengthZ;
+		positions = new long[volume];
+		flags = new byte[volume];
+		components = new IFissionComponent[volume];
+		moderatorRecipes = new BasicRecipe[volume];
+		reflectorRecipes = new BasicRecipe[volume];
+		moderatorFluxFactors = new long[volume];
+		moderatorEfficiencies = new double[volume];
+		reflectorEfficiencies = new double[volume];
+		reflectorReflectivities = new double[volume];
+		placements = new byte[volume];
+		
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		int index = 0;
+		for (int z = 0; z < lengthZ; ++z) {
+			for (int y = 0; y < lengthY; ++y) {
+				for (int x = 0; x < lengthX; ++x) {
+					positions[index++] = pos.setPos(minX + x, minY + y, minZ + z).toLong();
+				}
+			}
+		}
+	}
+	
+	public static FissionReactorGrid create(FissionReactor reactor) {
+		FissionReactorGrid grid = new FissionReactorGrid(reactor);
+		ObjectSet<FissionReactorGrid> grids = GRID_MAP.get(grid.dimension);
+		if (grids == null) {
+			grids = new ObjectOpenHashSet<>();
+			GRID_MAP.put(grid.dimension, grids);
+		}
+		grids.add(grid);
+		return grid;
+	}
+	
+	public void unregister() {
+		ObjectSet<FissionReactorGrid> grids = GRID_MAP.get(dimension);
+		if (grids != null) {
+			grids.remove(this);
+			if (grids.isEmpty()) {
+				GRID_MAP.remove(dimension);
+			}
+		}
+	}
+	
+	public static void onBlockChange(World world, BlockPos pos) {
+		ObjectSet<FissionReactorGrid> grids = GRID_MAP.get(world.provider.getDimension());
+		if (grids != null) {
+			for (FissionReactorGrid grid : grids) {
+				grid.invalidate(pos);
+			}
+		}
+	}
+	
+	public static void onWorldUnload(World world) {
+		GRID_MAP.remove(world.provider.getDimension());
+	}
+	
+	/**
+	 * Also drops the cached placement results of the adjacent positions, as these may depend on the changed block.
+	 */
+	public void invalidate(BlockPos pos) {
+		int index = getIndex(pos);
+		if (index >= 0) {
+			flags[index] = 0;
+			components[index] = null;
+			moderatorRecipes[index] = reflectorRecipes[index] = null;
+			placements[index] = PLACEMENT_UNKNOWN;
+			for (EnumFacing dir : EnumFacing.VALUES) {
+				int offset = offset(index, dir, 1);
+				if (offset >= 0) {
+					placements[offset] = PLACEMENT_UNKNOWN;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Drops everything read from the interior's blocks, keeping the casing checks, as changes to the walls always lead to the grid being dropped.
+	 */
+	public void invalidateInterior() {
+		Arrays.fill(flags, (byte) 0);
+		Arrays.fill(components, null);
+		Arrays.fill(moderatorRecipes, null);
+		Arrays.fill(reflectorRecipes, null);
+		Arrays.fill(placements, PLACEMENT_UNKNOWN);
+	}
+	
+	public void invalidateAll() {
+		invalidateInterior();
+		casingCache.clear();
+	}
+	
+	// Indices
+	
+	/**
+	 * Returns -1 for positions outside of the interior.
+	 */
+	public int getIndex(int x, int y, int z) {
+		x -= minX;
+		y -= minY;
+		z -= minZ;
+		if (x < 0 || x >= lengthX || y < 0 || y >= lengthY || z < 0 || z >= lengthZ) {
+			return -1;
+		}
+		return (z * lengthY + y) * lengthX + x;
+	}
+	
+	public int getIndex(BlockPos pos) {
+		return getIndex(pos.getX(), pos.getY(), pos.getZ());
+	}
+	
+	/**
+	 * Returns -1 if the offset position is outside of the interior.
+	 */
+	public int offset(int index, EnumFacing dir, int distance) {
+		int x = index % lengthX + dir.getXOffset() * distance;
+		int y = index / lengthX % lengthY + dir.getYOffset() * distance;
+		int z = index / (lengthX * lengthY) + dir.getZOffset() * distance;
+		if (x < 0 || x >= lengthX || y < 0 || y >= lengthY || z < 0 || z >= lengthZ) {
+			return -1;
+		}
+		return (z * lengthY + y) * lengthX + x;
+	}
+	
+	public long getPosLong(int index) {
+		return positions[index];
+	}
+	
+	// Voxels
+	
+	protected void resolve(int index) {
+		if (flags[index] != 0) {
+			return;
+		}
+		
+		byte flag = RESOLVED;
+		
+		IFissionComponent component = reactor.getPartMap(IFissionComponent.class).get(positions[index]);
+		if (component != null) {
+			flag |= COMPONENT;
+			components[index] = component;
+		}
+		
+		BlockPos pos = BlockPos.fromLong(positions[index]);
+		
+		BasicRecipe moderatorRecipe = RecipeHelper.blockRecipe(NCRecipes.fission_moderator, reactor.WORLD, pos);
+		if (moderatorRecipe != null) {
+			flag |= MODERATOR;
+			moderatorRecipes[index] = moderatorRecipe;
+			moderatorFluxFactors[index] = moderatorRecipe.getFissionModeratorFluxFactor();
+			moderatorEfficiencies[index] = moderatorRecipe.getFissionModeratorEfficiency();
+		}
+		
+		BasicRecipe reflectorRecipe = RecipeHelper.blockRecipe(NCRecipes.fission_reflector, reactor.WORLD, pos);
+		if (reflectorRecipe != null) {
+			flag |= REFLECTOR;
+			reflectorRecipes[index] = reflectorRecipe;
+			reflectorEfficiencies[index] = reflectorRecipe.getFissionReflectorEfficiency();
+			reflectorReflectivities[index] = reflectorRecipe.getFissionReflectorReflectivity();
+		}
+		
+		flags[index] = flag;
+	}
+	
+	public @Nullable IFissionComponent getComponent(int index) {
+		resolve(index);
+		return components[index];
+	}
+	
+	public boolean isModerator(int index) {
+		resolve(index);
+		return (flags[index] & MODERATOR) != 0;
+	}
+	
+	public boolean isReflector(int index) {
+		resolve(index);
+		return (flags[index] & REFLECTOR) != 0;
+	}
+	
+	/**
+	 * Equivalent to {@link nc.tile.fission.IFissionFuelComponent#getModeratorBlockInfo(BlockPos, EnumFacing, boolean)}, where components take precedence over moderator blocks.
+	 */
+	public @Nullable ModeratorBlockInfo getModeratorBlockInfo(int index, EnumFacing dir, boolean validActiveModeratorPos) {
+		resolve(index);
+		if ((flags[index] & COMPONENT) != 0) {
+			return components[index].getModeratorBlockInfo(dir, validActiveModeratorPos);
+		}
+		if ((flags[index] & MODERATOR) != 0) {
+			return new ModeratorBlockInfo(positions[index], null, false, validActiveModeratorPos, moderatorFluxFactors[index], moderatorEfficiencies[index]);
+		}
+		return null;
+	}
+	
+	/**
+	 * Only non-null if the position holds a reflector block rather than a component.
+	 */
+	public @Nullable BasicRecipe getReflectorRecipe(int index) {
+		resolve(index);
+		return (flags[index] & COMPONENT) != 0 ? null : reflectorRecipes[index];
+	}
+	
+	public double getReflectorEfficiency(int index) {
+		return reflectorEfficiencies[index];
+	}
+	
+	public double getReflectorReflectivity(int index) {
+		return reflectorReflectivities[index];
+	}
+	
+	// Placement
+	
+	/**
+	 * Cached results of placement rules which only depend on the reactor's structure.
+	 */
+	public byte getPlacement(int index) {
+		return placements[index];
+	}
+	
+	public void setPlacement(int index, boolean valid) {
+		placements[index] = valid ? PLACEMENT_VALID : PLACEMENT_INVALID;
+	}
+	
+	/**
+	 * Interior positions are never casings, and any change to the walls leads to the grid being dropped, so the casing check of a wall position is only made once.
+	 */
+	public boolean isCasing(BlockPos pos) {
+		if (getIndex(pos) >= 0) {
+			return false;
+		}
+		
+		long posLong = pos.toLong();
+		if (casingCache.containsKey(posLong)) {
+			return casingCache.get(posLong);
+		}
+		
+		TileEntity tile = reactor.WORLD.getTileEntity(pos);
+		boolean casing = tile instanceof TileFissionPart part && part.getPartPositionType().isGoodForWall();
+		casingCache.put(posLong, casing);
+		return casing;
+	}
+}
@@ -15,13 +15,13 @@ import nc.tile.internal.energy.EnergyStorage;
 import nc.tile.internal.fluid.Tank;
 import nc.tile.internal.heat.HeatBuffer;
 import nc.tile.multiblock.TilePartAbstract.SyncReason;
-import nc.util.NCMath;
+import nc.util.*;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
 import org.apache.commons.lang3.tuple.Pair;
 
-import javax.annotation.Nonnull;
+import javax.annotation.*;
 import java.util.*;
 
 import static nc.config.NCConfig.*;
@@ -32,6 +32,17 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 	
 	public final Long2ObjectMap<IFissionComponent> componentFailCache = new Long2ObjectOpenHashMap<>(), assumedValidCache = new Long2ObjectOpenHashMap<>();
 	
+	// Search state reused between refreshes, so that refreshing does not allocate new collections for every pass and frontier
+	protected final ObjectSet<IFissionFuelComponent> primedSearchCache = new ObjectOpenHashSet<>();
+	protected final Long2ObjectMap<IFissionFuelComponent> primedSearchFailCache = new Long2ObjectOpenHashMap<>();
+	protected ObjectSet<IFissionFuelComponent> fluxSearchFrontier = new ObjectOpenHashSet<>(), fluxSearchNextFrontier = new ObjectOpenHashSet<>();
+	protected final ObjectSet<FissionCluster> clusterStatsSet = new ObjectOpenHashSet<>();
+	protected final ObjectList<FissionCluster> clusterStatsList = new ObjectArrayList<>();
+	protected Object2IntMap<IFissionComponent> clusterSearchFrontier = new Object2IntOpenHashMap<>(), clusterSearchNextFrontier = new Object2IntOpenHashMap<>();
+	
+	protected static final ParallelHelper.ConfigPool CLUSTER_POOL = new ParallelHelper.ConfigPool("NuclearCraft Fission Update", () -> fission_update_threads);
+	protected static final int MIN_PARALLEL_CLUSTERS = 4;
+	
 	public FissionReactorLogic(FissionReactor reactor) {
 		super(reactor);
 	}
@@ -148,6 +159,8 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 	}
 	
 	public void refreshReactor() {
+		getReactor().isRefreshing = true;
+		getReactor().invalidateGridInterior();
 		componentFailCache.clear();
 		do {
 			assumedValidCache.clear();
@@ -155,20 +168,51 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 			refreshClusters();
 		}
 		while (getReactor().refreshFlag);
+		getReactor().isRefreshing = false;
 		
 		refreshReactorStats();
 	}
 	
+	/**
+	 * Refreshes only the region of the reactor coupled to fuel components which have changed state, falling back to a full refresh if that region is the whole reactor. Does not refresh the reactor stats.
+	 */
+	public void refreshFuelComponents(Collection<IFissionFuelComponent> changedFuelComponents) {
+		final RefreshRegion region = getReactor().isAssembled() ? getRefreshRegion(changedFuelComponents) : null;
+		if (region == null) {
+			refreshReactor();
+			return;
+		}
+		
+		getReactor().isRefreshing = true;
+		getReactor().invalidateGridPositions(region.linePositions);
+		for (IFissionComponent component : region.components) {
+			componentFailCache.remove(component.getTilePos().toLong());
+		}
+		do {
+			assumedValidCache.clear();
+			refreshFlux(region);
+			refreshClusters(region);
+		}
+		while (getReactor().refreshFlag);
+		getReactor().isRefreshing = false;
+	}
+	
 	public void refreshFlux() {
-		final Long2ObjectMap<IFissionFuelComponent> primedFailCache = new Long2ObjectOpenHashMap<>();
+		refreshFlux(null);
+	}
+	
+	protected void refreshFlux(@Nullable RefreshRegion region) {
+		final Long2ObjectMap<IFissionFuelComponent> primedFailCache = primedSearchFailCache;
+		primedFailCache.clear();
 		do {
 			getReactor().refreshFlag = false;
 			if (!getReactor().isAssembled()) {
 				return;
 			}
 			
-			final ObjectSet<IFissionFuelComponent> primedCache = new ObjectOpenHashSet<>();
-			for (IFissionComponent component : getParts(IFissionComponent.class)) {
+			final ObjectSet<IFissionFuelComponent> primedCache = primedSearchCache;
+			primedCache.clear();
+			for (IFissionComponent component : region == null ? getParts(IFissionComponent.class) : region.components) {
 				if (component instanceof IFissionFuelComponent fuelComponent) {
 					fuelComponent.refreshIsProcessing(false);
 					if ((fuelComponent.isFunctional() || fuelComponent.isSelfPriming()) && !primedFailCache.containsKey(fuelComponent.getTilePos().toLong())) {
@@ -178,27 +222,48 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 						}
 					}
 				}
+				if (region != null && component.getCluster() != null) {
+					region.clusters.add(component.getCluster());
+				}
 				component.setCluster(null);
 				component.resetStats();
 			}
 			
-			for (FissionCluster cluster : getReactor().clusterMap.values()) {
-				cluster.distributeHeatToComponents();
-				cluster.getComponentMap().clear();
+			if (region == null) {
+				for (FissionCluster cluster : getReactor().clusterMap.values()) {
+					cluster.distributeHeatToComponents();
+					cluster.getComponentMap().clear();
+				}
+				getReactor().clusterMap.clear();
+				
+				getReactor().clusterCount = 0;
+				getReactor().passiveModeratorCache.clear();
+				getReactor().activeModeratorCache.clear();
+				getReactor().activeReflectorCache.clear();
+			}
+			else {
+				for (FissionCluster cluster : region.clusters) {
+					cluster.distributeHeatToComponents();
+					cluster.getComponentMap().clear();
+					getReactor().clusterMap.remove(cluster.getId());
+				}
+				region.clusters.clear();
+				
+				getReactor().passiveModeratorCache.removeAll(region.linePositions);
+				getReactor().activeModeratorCache.removeAll(region.linePositions);
+				getReactor().activeReflectorCache.removeAll(region.linePositions);
 			}
-			getReactor().clusterMap.clear();
-			
-			getReactor().clusterCount = 0;
-			getReactor().passiveModeratorCache.clear();
-			getReactor().activeModeratorCache.clear();
-			getReactor().activeReflectorCache.clear();
 			
-			distributeFlux(primedCache, primedFailCache);
+			distributeFlux(primedCache, primedFailCache, region);
 		}
 		while (getReactor().refreshFlag);
 	}
 	
 	public void distributeFlux(final ObjectSet<IFissionFuelComponent> primedCache, final Long2ObjectMap<IFissionFuelComponent> primedFailCache) {
+		distributeFlux(primedCache, primedFailCache, null);
+	}
+	
+	protected void distributeFlux(final ObjectSet<IFissionFuelComponent> primedCache, final Long2ObjectMap<IFissionFuelComponent> primedFailCache, @Nullable RefreshRegion region) {
 		for (TileFissionSource source : getParts(TileFissionSource.class)) {
 			source.refreshIsRedstonePowered(getWorld(), source.getPos());
 			source.setActivity(source.isActive = source.isSourceActive());
@@ -211,7 +276,7 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 				continue;
 			}
 			IFissionFuelComponent fuelComponent = targetInfo.fuelComponent;
-			if (fuelComponent == null || primedFailCache.containsKey(fuelComponent.getTilePos().toLong())) {
+			if (fuelComponent == null || primedFailCache.containsKey(fuelComponent.getTilePos().toLong()) || (region != null && !region.components.contains(fuelComponent))) {
 				continue;
 			}
 			
@@ -238,30 +303,40 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 	}
 	
 	public void refreshClusters() {
-		refreshAllFuelComponentModerators();
+		refreshClusters(null);
+	}
+	
+	protected void refreshClusters(@Nullable RefreshRegion region) {
+		if (region == null) {
+			refreshAllFuelComponentModerators();
+		}
+		else {
+			for (IFissionFuelComponent fuelComponent : region.fuelComponents) {
+				refreshFuelComponentModerators(fuelComponent, componentFailCache, assumedValidCache);
+			}
+		}
 		
 		getReactor().passiveModeratorCache.removeAll(getReactor().activeModeratorCache);
 		
-		for (IFissionComponent component : getParts(IFissionComponent.class)) {
+		for (IFissionComponent component : region == null ? getParts(IFissionComponent.class) : region.components) {
 			if (component != null && component.isClusterRoot()) {
 				iterateClusterSearch(component);
 			}
 		}
 		
-		for (long posLong : getReactor().activeModeratorCache) {
-			for (EnumFacing dir : EnumFacing.VALUES) {
-				IFissionComponent component = getPartMap(IFissionComponent.class).get(BlockPos.fromLong(posLong).offset(dir).toLong());
-				if (component != null) {
-					iterateClusterSearch(component);
-				}
+		if (region == null) {
+			for (long posLong : getReactor().activeModeratorCache) {
+				iterateAdjacentClusterSearch(posLong);
+			}
+			
+			for (long posLong : getReactor().activeReflectorCache) {
+				iterateAdjacentClusterSearch(posLong);
 			}
 		}
-		
-		for (long posLong : getReactor().activeReflectorCache) {
-			for (EnumFacing dir : EnumFacing.VALUES) {
-				IFissionComponent component = getPartMap(IFissionComponent.class).get(BlockPos.fromLong(posLong).offset(dir).toLong());
-				if (component != null) {
-					iterateClusterSearch(component);
+		else {
+			for (long posLong : region.linePositions) {
+				if (getReactor().activeModeratorCache.contains(posLong) || getReactor().activeReflectorCache.contains(posLong)) {
+					iterateAdjacentClusterSearch(posLong);
 				}
 			}
 		}
@@ -277,20 +352,179 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 			return;
 		}
 		
-		for (IFissionSpecialComponent component : getParts(IFissionSpecialComponent.class)) {
-			component.postClusterSearch();
+		if (region == null) {
+			for (IFissionSpecialComponent component : getParts(IFissionSpecialComponent.class)) {
+				component.postClusterSearch();
+			}
+			
+			refreshClusterStats(getReactor().clusterMap.values());
 		}
-		
-		for (FissionCluster cluster : getReactor().clusterMap.values()) {
-			refreshClusterStats(cluster);
-			cluster.recoverHeatFromComponents();
+		else {
+			for (IFissionComponent component : region.components) {
+				if (component instanceof IFissionSpecialComponent specialComponent) {
+					specialComponent.postClusterSearch();
+				}
+				if (component.getCluster() != null) {
+					region.clusters.add(component.getCluster());
+				}
+			}
+			
+			refreshClusterStats(region.clusters);
 		}
 		
 		getReactor().sortClusters();
 	}
 	
+	/**
+	 * Refreshes the stats of the clusters and recovers their heat from their components. Any state shared between clusters is reset beforehand on the calling thread, after which each cluster only touches its own components, so the clusters are split across the worker pool if one is configured.
+	 */
+	protected void refreshClusterStats(Collection<FissionCluster> clusters) {
+		final ObjectList<FissionCluster> clusterList = clusterStatsList;
+		clusterStatsSet.addAll(clusters);
+		clusterList.addAll(clusterStatsSet);
+		clusterStatsSet.clear();
+		
+		prepareClusterStatsRefresh();
+		
+		ParallelHelper.forRange(CLUSTER_POOL.get(), clusterList.size(), MIN_PARALLEL_CLUSTERS, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				FissionCluster cluster = clusterList.get(i);
+				refreshClusterStats(cluster);
+				cluster.recoverHeatFromComponents();
+			}
+		});
+		clusterList.clear();
+	}
+	
+	protected void iterateAdjacentClusterSearch(long posLong) {
+		for (EnumFacing dir : EnumFacing.VALUES) {
+			IFissionComponent component = getPartMap(IFissionComponent.class).get(BlockPos.fromLong(posLong).offset(dir).toLong());
+			if (component != null) {
+				iterateClusterSearch(component);
+			}
+		}
+	}
+	
 	public void refreshAllFuelComponentModerators() {}
 	
+	// Refresh Region
+	
+	/**
+	 * The components, moderator line positions and clusters which may be affected by a change of state of some fuel components.
+	 */
+	public static class RefreshRegion {
+		
+		public final ObjectSet<IFissionComponent> components = new ObjectOpenHashSet<>();
+		public final ObjectSet<IFissionFuelComponent> fuelComponents = new ObjectOpenHashSet<>();
+		public final LongSet linePositions = new LongOpenHashSet();
+		public final ObjectSet<FissionCluster> clusters = new ObjectOpenHashSet<>();
+		
+		protected final ObjectList<IFissionComponent> queue = new ObjectArrayList<>();
+		
+		protected void add(@Nullable IFissionComponent component) {
+			if (component != null && components.add(component)) {
+				if (component instanceof IFissionFuelComponent fuelComponent) {
+					fuelComponents.add(fuelComponent);
+				}
+				queue.add(component);
+			}
+		}
+	}
+	
+	/**
+	 * Closes over face-connected components, which covers clusters and placement rule dependencies, and over any component which could be at either end of a moderator line passing through a position on a line of a flux sink in the region. Lines are followed from all flux sinks, not just fuel components, as a sink's stats are reset with the region and every fuel component feeding it must be re-run. Returns null if the region would be the whole reactor.
+	 */
+	protected @Nullable RefreshRegion getRefreshRegion(Collection<IFissionFuelComponent> changedFuelComponents) {
+		final Long2ObjectMap<IFissionComponent> componentMap = getPartMap(IFissionComponent.class);
+		final RefreshRegion region = new RefreshRegion();
+		
+		for (IFissionFuelComponent fuelComponent : changedFuelComponents) {
+			if (componentMap.get(fuelComponent.getTilePos().toLong()) != fuelComponent) {
+				return null;
+			}
+			region.add(fuelComponent);
+		}
+		
+		while (!region.queue.isEmpty()) {
+			IFissionComponent component = region.queue.remove(region.queue.size() - 1);
+			addAdjacentToRefreshRegion(region, componentMap, component.getTilePos());
+			
+			if (component instanceof IFissionFluxSink) {
+				for (EnumFacing dir : EnumFacing.VALUES) {
+					addLineToRefreshRegion(region, componentMap, component.getTilePos(), dir);
+				}
+			}
+			
+			if (region.components.size() >= componentMap.size()) {
+				return null;
+			}
+		}
+		
+		return region;
+	}
+	
+	protected void addAdjacentToRefreshRegion(RefreshRegion region, Long2ObjectMap<IFissionComponent> componentMap, BlockPos pos) {
+		for (EnumFacing dir : EnumFacing.VALUES) {
+			region.add(componentMap.get(pos.offset(dir).toLong()));
+		}
+	}
+	
+	/**
+	 * Follows the geometry of {@link IFissionFuelComponent#defaultDistributeFlux} regardless of the state of the line, adding the positions the line could pass through or end at and the components there. Lines through these positions in all other directions are then followed back to their ends, as the positions could be shared with them.
+	 */
+	protected void addLineToRefreshRegion(RefreshRegion region, Long2ObjectMap<IFissionComponent> componentMap, BlockPos origin, EnumFacing dir) {
+		for (int i = 1; i <= fission_neutron_reach + 1; ++i) {
+			BlockPos offPos = origin.offset(dir, i);
+			IFissionComponent component = componentMap.get(offPos.toLong());
+			region.add(component);
+			
+			if (i <= fission_neutron_reach && isRefreshRegionModerator(componentMap, offPos, dir)) {
+				addLinePositionToRefreshRegion(region, componentMap, offPos);
+				continue;
+			}
+			
+			if (i > 1 && component == null && i - 1 <= fission_neutron_reach / 2 && getReactor().isReflector(offPos)) {
+				addLinePositionToRefreshRegion(region, componentMap, offPos);
+			}
+			return;
+		}
+	}
+	
+	protected void addLinePositionToRefreshRegion(RefreshRegion region, Long2ObjectMap<IFissionComponent> componentMap, BlockPos pos) {
+		if (!region.linePositions.add(pos.toLong())) {
+			return;
+		}
+		
+		addAdjacentToRefreshRegion(region, componentMap, pos);
+		
+		for (EnumFacing dir : EnumFacing.VALUES) {
+			for (int i = 1; i <= fission_neutron_reach + 1; ++i) {
+				BlockPos offPos = pos.offset(dir, i);
+				region.add(componentMap.get(offPos.toLong()));
+				if (!isRefreshRegionModerator(componentMap, offPos, dir)) {
+					break;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Over-approximates whether flux could pass through the position, so components which may be in the component fail cache are treated as moderators.
+	 */
+	protected boolean isRefreshRegionModerator(Long2ObjectMap<IFissionComponent> componentMap, BlockPos pos, EnumFacing dir) {
+		IFissionComponent component = componentMap.get(pos.toLong());
+		if (component != null) {
+			ModeratorBlockInfo info = component.getModeratorBlockInfo(dir, false);
+			return info != null && !info.blockingFlux;
+		}
+		return getReactor().isModerator(pos);
+	}
+	
+	/**
+	 * Called on the server thread before the stats of one or more clusters are refreshed.
+	 */
+	public void prepareClusterStatsRefresh() {}
+	
 	public void refreshClusterStats(FissionCluster cluster) {
 		cluster.componentCount = cluster.fuelComponentCount = 0;
 		cluster.cooling = cluster.rawHeating = cluster.rawHeatingIgnoreCoolingPenalty = cluster.totalHeatMult = 0L;
@@ -346,38 +580,44 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 		}
 	}
 	
+	/**
+	 * Searches outwards from the fuel component one frontier at a time. The frontier collections are swapped and cleared rather than reallocated.
+	 */
 	public void iterateFluxSearch(IFissionFuelComponent rootFuelComponent) {
-		final ObjectSet<IFissionFuelComponent> fluxSearchCache = new ObjectOpenHashSet<>();
-		rootFuelComponent.fluxSearch(fluxSearchCache, componentFailCache, assumedValidCache);
+		fluxSearchFrontier.clear();
+		rootFuelComponent.fluxSearch(fluxSearchFrontier, componentFailCache, assumedValidCache);
 		
-		do {
-			final Iterator<IFissionFuelComponent> fluxSearchIterator = fluxSearchCache.iterator();
-			final ObjectSet<IFissionFuelComponent> fluxSearchSubCache = new ObjectOpenHashSet<>();
-			while (fluxSearchIterator.hasNext()) {
-				IFissionFuelComponent fuelComponent = fluxSearchIterator.next();
-				fluxSearchIterator.remove();
-				fuelComponent.fluxSearch(fluxSearchSubCache, componentFailCache, assumedValidCache);
+		while (!fluxSearchFrontier.isEmpty()) {
+			fluxSearchNextFrontier.clear();
+			for (IFissionFuelComponent fuelComponent : fluxSearchFrontier) {
+				fuelComponent.fluxSearch(fluxSearchNextFrontier, componentFailCache, assumedValidCache);
 			}
-			fluxSearchCache.addAll(fluxSearchSubCache);
+			
+			final ObjectSet<IFissionFuelComponent> searched = fluxSearchFrontier;
+			fluxSearchFrontier = fluxSearchNextFrontier;
+			fluxSearchNextFrontier = searched;
 		}
-		while (!fluxSearchCache.isEmpty());
+		fluxSearchNextFrontier.clear();
 	}
 	
+	/**
+	 * Searches outwards from the component one frontier at a time. The frontier collections are swapped and cleared rather than reallocated.
+	 */
 	public void iterateClusterSearch(IFissionComponent rootComponent) {
-		final Object2IntMap<IFissionComponent> clusterSearchCache = new Object2IntOpenHashMap<>();
-		rootComponent.clusterSearch(null, clusterSearchCache, componentFailCache, assumedValidCache);
-		do {
-			final Iterator<IFissionComponent> clusterSearchIterator = clusterSearchCache.keySet().iterator();
-			final Object2IntMap<IFissionComponent> clusterSearchSubCache = new Object2IntOpenHashMap<>();
-			while (clusterSearchIterator.hasNext()) {
-				IFissionComponent component = clusterSearchIterator.next();
-				Integer id = clusterSearchCache.get(component);
-				clusterSearchIterator.remove();
-				component.clusterSearch(id, clusterSearchSubCache, componentFailCache, assumedValidCache);
+		clusterSearchFrontier.clear();
+		rootComponent.clusterSearch(null, clusterSearchFrontier, componentFailCache, assumedValidCache);
+		
+		while (!clusterSearchFrontier.isEmpty()) {
+			clusterSearchNextFrontier.clear();
+			for (Object2IntMap.Entry<IFissionComponent> entry : Object2IntMaps.fastIterable(clusterSearchFrontier)) {
+				entry.getKey().clusterSearch(entry.getIntValue(), clusterSearchNextFrontier, componentFailCache, assumedValidCache);
 			}
-			clusterSearchCache.putAll(clusterSearchSubCache);
+			
+			final Object2IntMap<IFissionComponent> searched = clusterSearchFrontier;
+			clusterSearchFrontier = clusterSearchNextFrontier;
+			clusterSearchNextFrontier = searched;
 		}
-		while (!clusterSearchCache.isEmpty());
+		clusterSearchNextFrontier.clear();
 	}
 	
 	public void refreshReactorStats() {
@@ -489,8 +729,7 @@ public class FissionReactorLogic extends MultiblockLogic<FissionReactor, Fission
 	
 	public void distributeFluxFromFuelComponent(IFissionFuelComponent fuelComponent, final ObjectSet<IFissionFuelComponent> fluxSearchCache, final Long2ObjectMap<IFissionComponent> currentComponentFailCache, final Long2ObjectMap<IFissionComponent> currentAssumedValidCache) {}
 	
-	public IFissionFuelComponent getNextFuelComponent(IFissionFuelComponent fuelComponent, BlockPos pos) {
-		IFissionComponent component = getPartMap(IFissionComponent.class).get(pos.toLong());
+	public IFissionFuelComponent getNextFuelComponent(IFissionFuelComponent fuelComponent, @Nullable IFissionComponent component) {
 		return component instanceof IFissionFuelComponent ? (IFissionFuelComponent) component : null;
 	}
 	
@@ -14,10 +14,9 @@ import nc.tile.multiblock.TilePartAbstract.SyncReason;
 import nc.util.NCMath;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.BlockPos;
 import org.apache.commons.lang3.tuple.Pair;
 
-import javax.annotation.Nonnull;
+import javax.annotation.*;
 import java.util.*;
 
 import static nc.config.NCConfig.*;
@@ -138,11 +137,14 @@ public class MoltenSaltFissionLogic extends FissionReactorLogic {
 	}
 	
 	@Override
-	public void incrementClusterStatsFromComponents(FissionCluster cluster) {
+	public void prepareClusterStatsRefresh() {
 		for (SaltFissionVesselBunch bunch : vesselBunches) {
 			bunch.statsRetrieved = false;
 		}
-		
+	}
+	
+	@Override
+	public void incrementClusterStatsFromComponents(FissionCluster cluster) {
 		for (IFissionComponent component : cluster.getComponentMap().values()) {
 			if (component.isFunctional()) {
 				++cluster.componentCount;
@@ -335,8 +337,8 @@ public class MoltenSaltFissionLogic extends FissionReactorLogic {
 	}
 	
 	@Override
-	public IFissionFuelComponent getNextFuelComponent(IFissionFuelComponent fuelComponent, BlockPos pos) {
-		return getPartMap(TileSaltFissionVessel.class).get(pos.toLong());
+	public IFissionFuelComponent getNextFuelComponent(IFissionFuelComponent fuelComponent, @Nullable IFissionComponent component) {
+		return component instanceof TileSaltFissionVessel vessel ? vessel : null;
 	}
 	
 	@Override
@@ -13,10 +13,9 @@ import nc.tile.internal.fluid.Tank;
 import nc.tile.multiblock.TilePartAbstract.SyncReason;
 import nc.util.NCMath;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.BlockPos;
 import org.apache.commons.lang3.tuple.Pair;
 
-import javax.annotation.Nonnull;
+import javax.annotation.*;
 import java.util.*;
 
 import static nc.config.NCConfig.*;
@@ -263,8 +262,8 @@ public class SolidFuelFissionLogic extends FissionReactorLogic {
 	}
 	
 	@Override
-	public IFissionFuelComponent getNextFuelComponent(IFissionFuelComponent fuelComponent, BlockPos pos) {
-		return getPartMap(TileSolidFissionCell.class).get(pos.toLong());
+	public IFissionFuelComponent getNextFuelComponent(IFissionFuelComponent fuelComponent, @Nullable IFissionComponent component) {
+		return component instanceof TileSolidFissionCell cell ? cell : null;
 	}
 	
 	@Override
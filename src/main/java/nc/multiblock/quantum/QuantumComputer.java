@@ -19,7 +19,7 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.*;
 
 import static nc.config.NCConfig.*;
 import static nc.multiblock.quantum.QuantumGate.*;
@@ -28,6 +28,9 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 	
 	public static final ObjectSet<Class<? extends IQuantumComputerPart>> PART_CLASSES = new ObjectOpenHashSet<>();
 	
+	protected static final ParallelHelper.ConfigPool POOL = new ParallelHelper.ConfigPool("NuclearCraft Quantum Update", () -> quantum_update_threads);
+	protected static final int MIN_PARALLEL_RANGE = ComplexVector.BLOCK_SIZE;
+	
 	protected final PartSuperMap<QuantumComputer, IQuantumComputerPart> partSuperMap = new PartSuperMap<>();
 	
 	protected TileQuantumComputerController controller;
@@ -241,19 +244,24 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 	
 	@Override
 	public void syncDataFrom(NBTTagCompound data, SyncReason syncReason) {
-		cache = ComplexVector.readFromNBT(data, "state");
+		if (syncReason == SyncReason.FullSync) {
+			cache = ComplexVector.readFromNBT(data, "state");
+		}
 	}
 	
+	/**
+	 * The state is only saved, and is never sent to clients.
+	 */
 	@Override
 	public void syncDataTo(NBTTagCompound data, SyncReason syncReason) {
-		if (qubitCount() <= quantum_max_qubits_live) {
+		if (syncReason == SyncReason.FullSync && qubitCount() <= quantum_max_qubits_live) {
 			state.writeToNBT(data, "state");
 		}
 	}
 	
 	protected boolean tryLoadStateCache(int dim) {
 		if (cache != null && cache.dim == dim) {
-			state = cache.normalize();
+			state = cache.normalize(POOL.get());
 			cache = null;
 			
 			markQubitsDirty();
@@ -315,7 +323,25 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 				}
 			}
 		}
-		state.normalize();
+		state.normalize(POOL.get());
+		
+		setQubitsRedstone(o, list(n));
+		markQubitsDirty();
+	}
+	
+	/**
+	 * Zeroes the amplitudes of all basis states whose measured bits do not match the outcome o.
+	 */
+	protected void collapse(int o, int mask, IntSet n) {
+		ForkJoinPool pool = POOL.get();
+		ParallelHelper.forRange(pool, state.dim, MIN_PARALLEL_RANGE, (start, end) -> {
+			for (int k = start; k < end; ++k) {
+				if ((k & mask) != o) {
+					state.re[k] = state.im[k] = 0D;
+				}
+			}
+		});
+		state.normalize(pool);
 		
 		setQubitsRedstone(o, list(n));
 		markQubitsDirty();
@@ -337,48 +363,85 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 		markQubitsDirty();
 	}
 	
+	/**
+	 * Outcome probabilities are summed over fixed blocks of the state, which are combined in order, so the result does not depend on whether the blocks are run in parallel.
+	 */
 	public void measure(IntSet n) {
 		IntList _n = list(n);
-		int q = qubitCount(), dim = dim(q), o;
+		int q = qubitCount(), dim = dim(q), mask = 0;
 		checkStateDim(dim);
 		
-		int[] z = new int[_n.size()];
-		for (int i = 0; i < _n.size(); ++i) {
-			z[i] = q - _n.getInt(i) - 1;
-		}
-		
-		Int2DoubleMap w = new Int2DoubleOpenHashMap();
-		Int2ObjectMap<IntSet> s = new Int2ObjectOpenHashMap<>();
-		IntList l = new IntArrayList();
-		IntSet j = null;
-		double a, sum = 0D;
-		for (int i = 0; i < dim; ++i) {
-			a = Complex.absSq(state.re[i], state.im[i]);
-			sum += a;
-			o = NCMath.onlyBits(i, z);
-			if (w.containsKey(o)) {
-				w.put(o, w.get(o) + a);
-				s.get(o).add(i);
+		for (int i : _n) {
+			if (i >= 0 && i < q) {
+				mask |= 1 << (q - i - 1);
 			}
-			else {
-				l.add(o);
-				w.put(o, a);
-				s.put(o, set(i));
+		}
+		
+		int[] bits = new int[Integer.bitCount(mask)];
+		for (int i = 0, b = 0; i < q; ++i) {
+			if (NCMath.getBit(mask, i) == 1) {
+				bits[b++] = i;
 			}
 		}
 		
-		o = dim - 1;
+		int outcomes = 1 << bits.length, blockSize = Math.max(ComplexVector.BLOCK_SIZE, outcomes), blocks = (dim + blockSize - 1) / blockSize;
+		
+		double[] partial = new double[blocks * outcomes];
+		ParallelHelper.forRange(POOL.get(), blocks, 1, (start, end) -> {
+			for (int b = start; b < end; ++b) {
+				int offset = b * outcomes;
+				for (int k = b * blockSize, max = Math.min(dim, k + blockSize); k < max; ++k) {
+					partial[offset + compress(k, bits)] += Complex.absSq(state.re[k], state.im[k]);
+				}
+			}
+		});
+		
+		double[] w = new double[outcomes];
+		double sum = 0D;
+		for (int o = 0; o < outcomes; ++o) {
+			for (int b = 0; b < blocks; ++b) {
+				w[o] += partial[b * outcomes + o];
+			}
+			sum += w[o];
+		}
+		
 		sum *= rand.nextDouble();
-		for (int i : l) {
-			sum -= w.get(i);
+		for (int o = 0; o < outcomes; ++o) {
+			sum -= w[o];
 			if (sum < 0) {
-				o = i;
-				j = s.get(i);
-				break;
+				if (outcomes == dim) {
+					collapse(dim, expand(o, bits), set(expand(o, bits)), n);
+				}
+				else {
+					collapse(expand(o, bits), mask, n);
+				}
+				return;
 			}
 		}
 		
-		collapse(dim, o, j == null ? set(dim - 1) : j, n);
+		collapse(dim, dim - 1, set(dim - 1), n);
+	}
+	
+	/**
+	 * Packs the bits of k at the given positions into the lowest bits.
+	 */
+	protected static int compress(int k, int[] bits) {
+		int out = 0;
+		for (int b = 0; b < bits.length; ++b) {
+			out |= (k >> bits[b] & 1) << b;
+		}
+		return out;
+	}
+	
+	/**
+	 * Inverse of {@link #compress(int, int[])}.
+	 */
+	protected static int expand(int o, int[] bits) {
+		int out = 0;
+		for (int b = 0; b < bits.length; ++b) {
+			out |= (o >> b & 1) << bits[b];
+		}
+		return out;
 	}
 	
 	// Gates
@@ -424,64 +487,122 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 		return ComplexMatrix.tensorProduct(t);
 	}
 	
+	/**
+	 * Applies the single-qubit operator m to each target qubit directly on the state vector, only acting on basis states in which all control qubits are set. Equivalent to mapping the state by {@link #control(ComplexMatrix, IntList, IntList)}, but takes O(2^q) time and no extra memory.
+	 */
+	protected void local(ComplexMatrix m, IntList c, IntList t) {
+		int q = qubitCount(), dim = dim(q);
+		checkStateDim(dim);
+		
+		if (t.isEmpty() || invalid(c) || (c.isEmpty() && invalid(t))) {
+			return;
+		}
+		
+		int controlMask = 0;
+		for (int i : c) {
+			if (t.contains(i)) {
+				return;
+			}
+			controlMask |= 1 << (q - i - 1);
+		}
+		
+		ForkJoinPool pool = POOL.get();
+		for (int j : t) {
+			if (j < 0 || j >= q) {
+				continue;
+			}
+			
+			int mask = 1 << (q - j - 1), cMask = controlMask;
+			ParallelHelper.forRange(pool, dim >> 1, MIN_PARALLEL_RANGE, (start, end) -> localRange(m, mask, cMask, start, end));
+		}
+	}
+	
+	/**
+	 * Acts on the amplitude pairs of the given range of indices, where each index has a zero inserted at the target bit to give the first amplitude of its pair.
+	 */
+	protected void localRange(ComplexMatrix m, int mask, int controlMask, int start, int end) {
+		double m00r = m.re[0][0], m00i = m.im[0][0], m01r = m.re[0][1], m01i = m.im[0][1];
+		double m10r = m.re[1][0], m10i = m.im[1][0], m11r = m.re[1][1], m11i = m.im[1][1];
+		double[] re = state.re, im = state.im;
+		double r0, i0, r1, i1;
+		
+		int low = mask - 1, k0, k1;
+		for (int h = start; h < end; ++h) {
+			k0 = (h & ~low) << 1 | (h & low);
+			if ((k0 & controlMask) != controlMask) {
+				continue;
+			}
+			
+			k1 = k0 | mask;
+			r0 = re[k0];
+			i0 = im[k0];
+			r1 = re[k1];
+			i1 = im[k1];
+			re[k0] = m00r * r0 - m00i * i0 + m01r * r1 - m01i * i1;
+			im[k0] = m00r * i0 + m00i * r0 + m01r * i1 + m01i * r1;
+			re[k1] = m10r * r0 - m10i * i0 + m11r * r1 - m11i * i1;
+			im[k1] = m10r * i0 + m10i * r0 + m11r * i1 + m11i * r1;
+		}
+	}
+	
 	public void x(IntSet n) {
-		gate(single(X, list(n)));
+		local(X, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void y(IntSet n) {
-		gate(single(Y, list(n)));
+		local(Y, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void z(IntSet n) {
-		gate(single(Z, list(n)));
+		local(Z, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void h(IntSet n) {
-		gate(single(H, list(n)));
+		local(H, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void s(IntSet n) {
-		gate(single(S, list(n)));
+		local(S, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void sdg(IntSet n) {
-		gate(single(Sdg, list(n)));
+		local(Sdg, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void t(IntSet n) {
-		gate(single(T, list(n)));
+		local(T, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void tdg(IntSet n) {
-		gate(single(Tdg, list(n)));
+		local(Tdg, IntLists.EMPTY_LIST, list(n));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void p(double angle, IntSet n) {
-		gate(single(QuantumGate.p(angle), list(n)));
+		local(QuantumGate.p(angle), IntLists.EMPTY_LIST, list(n));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void rx(double angle, IntSet n) {
-		gate(single(QuantumGate.rx(angle), list(n)));
+		local(QuantumGate.rx(angle), IntLists.EMPTY_LIST, list(n));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void ry(double angle, IntSet n) {
-		gate(single(QuantumGate.ry(angle), list(n)));
+		local(QuantumGate.ry(angle), IntLists.EMPTY_LIST, list(n));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void rz(double angle, IntSet n) {
-		gate(single(QuantumGate.rz(angle), list(n)));
+		local(QuantumGate.rz(angle), IntLists.EMPTY_LIST, list(n));
 	}
 	
 	public void swap(IntList i_, IntList j_) {
@@ -494,11 +615,22 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 			return;
 		}
 		
+		swap(0, i_, j_);
+	}
+	
+	/**
+	 * Swaps the pairs of qubits directly on the state vector, only acting on basis states in which all bits of the control mask are set.
+	 */
+	protected void swap(int controlMask, IntList i_, IntList j_) {
 		int q = qubitCount(), dim = dim(q), i, j, s;
 		checkStateDim(dim);
 		
 		double re, im;
 		for (int k = 0; k < dim; ++k) {
+			if ((k & controlMask) != controlMask) {
+				continue;
+			}
+			
 			for (int a = 0; a < i_.size(); ++a) {
 				i = i_.getInt(a);
 				j = j_.getInt(a);
@@ -561,66 +693,65 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 	}
 	
 	public void cx(IntSet c, IntSet t) {
-		gate(control(X, list(c), list(t)));
+		local(X, list(c), list(t));
 	}
 	
 	public void cy(IntSet c, IntSet t) {
-		gate(control(Y, list(c), list(t)));
+		local(Y, list(c), list(t));
 	}
 	
 	public void cz(IntSet c, IntSet t) {
-		gate(control(Z, list(c), list(t)));
+		local(Z, list(c), list(t));
 	}
 	
 	public void ch(IntSet c, IntSet t) {
-		gate(control(H, list(c), list(t)));
+		local(H, list(c), list(t));
 	}
 	
 	public void cs(IntSet c, IntSet t) {
-		gate(control(S, list(c), list(t)));
+		local(S, list(c), list(t));
 	}
 	
 	public void csdg(IntSet c, IntSet t) {
-		gate(control(Sdg, list(c), list(t)));
+		local(Sdg, list(c), list(t));
 	}
 	
 	public void ct(IntSet c, IntSet t) {
-		gate(control(T, list(c), list(t)));
+		local(T, list(c), list(t));
 	}
 	
 	public void ctdg(IntSet c, IntSet t) {
-		gate(control(Tdg, list(c), list(t)));
+		local(Tdg, list(c), list(t));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void cp(double angle, IntSet c, IntSet t) {
-		gate(control(QuantumGate.p(angle), list(c), list(t)));
+		local(QuantumGate.p(angle), list(c), list(t));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void crx(double angle, IntSet c, IntSet t) {
-		gate(control(QuantumGate.rx(angle), list(c), list(t)));
+		local(QuantumGate.rx(angle), list(c), list(t));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void cry(double angle, IntSet c, IntSet t) {
-		gate(control(QuantumGate.ry(angle), list(c), list(t)));
+		local(QuantumGate.ry(angle), list(c), list(t));
 	}
 	
 	/**
 	 * Angle in degrees!
 	 */
 	public void crz(double angle, IntSet c, IntSet t) {
-		gate(control(QuantumGate.rz(angle), list(c), list(t)));
+		local(QuantumGate.rz(angle), list(c), list(t));
 	}
 	
-	// Don't know how to optimise this!
 	public void cswap(IntSet c_, IntList i_, IntList j_) {
 		if (c_.isEmpty()) {
 			swap(i_, j_);
@@ -631,56 +762,19 @@ public class QuantumComputer extends Multiblock<QuantumComputer, IQuantumCompute
 			return;
 		}
 		
-		if (invalid(i_) || invalid(j_)) {
+		if (invalid(i_) || invalid(j_) || invalid(list(c_))) {
 			return;
 		}
 		
+		int q = qubitCount(), controlMask = 0;
 		for (int i : c_) {
 			if (i_.contains(i) || j_.contains(i)) {
 				return;
 			}
+			controlMask |= 1 << (q - i - 1);
 		}
 		
-		IntList c = list(c_);
-		int s = dim(c.size()), q = qubitCount(), dim = dim(q), k, i, j, w;
-		checkStateDim(dim);
-		
-		ComplexMatrix m = new ComplexMatrix(dim), p;
-		ComplexMatrix[] e = new ComplexMatrix[q];
-		boolean b;
-		for (int u = 0; u < s; ++u) {
-			k = 0;
-			for (int v = 0; v < q; ++v) {
-				b = c.contains(v);
-				e[v] = b ? NCMath.getBit(u, c.size() - k - 1) == 1 ? P_1 : P_0 : I;
-				if (b) {
-					++k;
-				}
-			}
-			p = ComplexMatrix.tensorProduct(e);
-			if (u == s - 1) {
-				for (int l = 0; l < dim; ++l) {
-					for (int a = 0; a < i_.size(); ++a) {
-						i = i_.getInt(a);
-						j = j_.getInt(a);
-						if (i == j) {
-							continue;
-						}
-						
-						i = q - i - 1;
-						j = q - j - 1;
-						if (NCMath.getBit(l, i) == 0 && NCMath.getBit(l, j) == 1) {
-							w = NCMath.swap(l, i, j);
-							p.swap(l, l, w, l);
-							p.swap(w, w, l, w);
-						}
-					}
-				}
-			}
-			m.add(p);
-		}
-		
-		gate(m);
+		swap(controlMask, i_, j_);
 	}
 	
 	public void printCode(EntityPlayer player) {
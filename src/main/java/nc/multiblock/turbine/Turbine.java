@@ -23,6 +23,7 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.relauncher.*;
 
 import javax.annotation.Nonnull;
@@ -30,7 +31,7 @@ import javax.vecmath.Vector3f;
 import java.util.*;
 import java.util.function.UnaryOperator;
 
-import static nc.config.NCConfig.turbine_max_size;
+import static nc.config.NCConfig.*;
 
 public class Turbine extends CuboidalMultiblock<Turbine, ITurbinePart> implements ILogicMultiblock<Turbine, TurbineLogic, ITurbinePart>, IPacketMultiblock<Turbine, ITurbinePart, TurbineUpdatePacket> {
 	
@@ -78,6 +79,19 @@ public class Turbine extends CuboidalMultiblock<Turbine, ITurbinePart> implement
 	public double particleSpeedMult = 1D / 23.2D;
 	public float angVel = 0F, rotorAngle = 0F;
 	
+	public static final int RENDER_SYNC_INTERVAL = 20;
+	public static final double RENDER_SYNC_THRESHOLD = 0.02D;
+	public static final float RENDER_SYNC_SMOOTHING = 0.25F;
+	
+	/**
+	 * Server-side, the render state last sent to clients. Client-side, only the target rotor speed is used, which the rendered speed eases towards.
+	 */
+	public float syncedAngVel = 0F;
+	public String syncedParticleEffect = null;
+	public double syncedParticleSpeedMult = 0D, syncedRecipeInputRateFP = 0D;
+	public boolean syncedIsProcessing = false;
+	public int renderSyncCount = 0;
+	
 	@SuppressWarnings("unchecked")
 	public Iterable<MutableBlockPos>[] inputPlane = new Iterable[4];
 	
@@ -396,7 +410,7 @@ public class Turbine extends CuboidalMultiblock<Turbine, ITurbinePart> implement
 		powerBonus = data.getDouble("powerBonus");
 		particleEffect = data.getString("particleEffect");
 		particleSpeedMult = data.getDouble("particleSpeedMult");
-		angVel = data.getFloat("angVel");
+		angVel = syncedAngVel = data.getFloat("angVel");
 		rotorAngle = data.getFloat("rotorAngle");
 		
 		bladePosArray = NBTHelper.readBlockPosArray(data, "bladePosArray");
@@ -477,6 +491,52 @@ public class Turbine extends CuboidalMultiblock<Turbine, ITurbinePart> implement
 		packet.sendToAll();
 	}
 	
+	/**
+	 * Only sends a render packet to players tracking the turbine if its render state has noticeably changed, or periodically so that players who have just started tracking it are caught up.
+	 */
+	public void sendRenderPacketToTracking() {
+		if (WORLD.isRemote) {
+			return;
+		}
+		if (++renderSyncCount < RENDER_SYNC_INTERVAL && !hasRenderStateChanged()) {
+			return;
+		}
+		TurbineRenderPacket packet = getRenderPacket();
+		if (packet == null) {
+			return;
+		}
+		renderSyncCount = 0;
+		syncedAngVel = angVel;
+		syncedParticleEffect = particleEffect;
+		syncedParticleSpeedMult = particleSpeedMult;
+		syncedRecipeInputRateFP = recipeInputRateFP;
+		syncedIsProcessing = isProcessing;
+		packet.sendToAllTracking(getTrackingPoint());
+	}
+	
+	protected boolean hasRenderStateChanged() {
+		return isProcessing != syncedIsProcessing || !particleEffect.equals(syncedParticleEffect) || Math.abs(angVel - syncedAngVel) > RENDER_SYNC_THRESHOLD * turbine_render_rotor_speed || Math.abs(particleSpeedMult - syncedParticleSpeedMult) > RENDER_SYNC_THRESHOLD * syncedParticleSpeedMult || Math.abs(recipeInputRateFP - syncedRecipeInputRateFP) > RENDER_SYNC_THRESHOLD * syncedRecipeInputRateFP;
+	}
+	
+	public void sendMultiblockUpdatePacketToTracking() {
+		if (WORLD.isRemote) {
+			return;
+		}
+		TurbineUpdatePacket packet = getMultiblockUpdatePacket();
+		if (packet == null) {
+			return;
+		}
+		packet.sendToAllTracking(getTrackingPoint());
+	}
+	
+	/**
+	 * Packets sent to this point reach all players tracking the chunk at the middle of the turbine.
+	 */
+	public NetworkRegistry.TargetPoint getTrackingPoint() {
+		BlockPos pos = getMiddleCoord();
+		return new NetworkRegistry.TargetPoint(WORLD.provider.getDimension(), pos.getX(), pos.getY(), pos.getZ(), 0D);
+	}
+	
 	// Multiblock Validators
 	
 	@Override
@@ -28,9 +28,11 @@ import net.minecraft.util.EnumFacing.*;
 import net.minecraft.util.math.*;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.relauncher.*;
 import org.apache.commons.lang3.tuple.Pair;
 
+import javax.annotation.Nullable;
 import javax.vecmath.Vector3f;
 import java.util.*;
 
@@ -43,6 +45,15 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 	public final ObjectSet<TileTurbineDynamoPart> dynamoPartCache = new ObjectOpenHashSet<>(), dynamoPartCacheOpposite = new ObjectOpenHashSet<>();
 	public final Long2ObjectMap<TileTurbineDynamoPart> componentFailCache = new Long2ObjectOpenHashMap<>(), assumedValidCache = new Long2ObjectOpenHashMap<>();
 	
+	/**
+	 * Memoised parts of the performance model. The recipe is only looked up again when the input fluid changes, the rotor terms only when the rotor geometry or the recipe's expansion level changes, and the rate-dependent terms only when the input rate changes.
+	 */
+	protected @Nullable FluidStack recipeFluid = null;
+	protected boolean rotorStatsValid = false;
+	protected double rotorStatsExpansionLevel, throughputLeniency;
+	protected int powerBonusInputRate = -1;
+	protected double throughputInputRateFP = Double.NaN, throughputEfficiency;
+	
 	public TurbineLogic(Turbine turbine) {
 		super(turbine);
 	}
@@ -171,7 +182,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 			}
 			
 			if (getTurbine().controller != null) {
-				getTurbine().sendMultiblockUpdatePacketToAll();
+				getTurbine().sendMultiblockUpdatePacketToTracking();
 				getTurbine().markReferenceCoordForUpdate();
 			}
 		}
@@ -264,7 +275,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 			getTurbine().controller.setActivity(false);
 		}
 		getTurbine().power = getTurbine().rawPower = getTurbine().rawLimitPower = getTurbine().rawMaxPower = getTurbine().conductivity = getTurbine().rotorEfficiency = 0D;
-		getTurbine().angVel = getTurbine().rotorAngle = 0F;
+		getTurbine().angVel = getTurbine().syncedAngVel = getTurbine().rotorAngle = 0F;
 		getTurbine().flowDir = null;
 		getTurbine().shaftWidth = getTurbine().inertia = getTurbine().bladeLength = getTurbine().noBladeSets = getTurbine().recipeInputRate = 0;
 		getTurbine().totalExpansionLevel = getTurbine().idealTotalExpansionLevel = 1D;
@@ -277,6 +288,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		getTurbine().basePowerPerMB = getTurbine().recipeInputRateFP = 0D;
 		getTurbine().expansionLevels.clear();
 		getTurbine().rawBladeEfficiencies.clear();
+		invalidateSteadyState();
 		getTurbine().inputPlane[0] = getTurbine().inputPlane[1] = getTurbine().inputPlane[2] = getTurbine().inputPlane[3] = null;
 		
 		for (TileTurbineDynamoPart dynamoPart : getParts(TileTurbineDynamoPart.class)) {
@@ -537,6 +549,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		getTurbine().totalExpansionLevel = 1D;
 		getTurbine().expansionLevels.clear();
 		getTurbine().rawBladeEfficiencies.clear();
+		invalidateSteadyState();
 		
 		getTurbine().bladePosArray = new BlockPos[4 * flowLength];
 		getTurbine().bladeAngleArray = new float[4 * flowLength];
@@ -702,10 +715,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 	public boolean onUpdateServer() {
 		boolean flag = true, wasProcessing = getTurbine().isProcessing;
 		refreshRecipe();
-		
-		setRotorEfficiency();
-		setEffectiveMaxLength();
-		setInputRatePowerBonus();
+		refreshSteadyState();
 		
 		double previousRawPower = getTurbine().rawPower, previousRawLimitPower = getTurbine().rawLimitPower, previousRawMaxPower = getTurbine().rawMaxPower;
 		getTurbine().rawLimitPower = getRawLimitProcessPower(getTurbine().recipeInputRate);
@@ -723,11 +733,11 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 			getTurbine().rawPower = getNewRawProcessPower(previousRawPower, previousRawLimitPower, false);
 		}
 		
-		getTurbine().power = getTurbine().rawPower * getTurbine().conductivity * getTurbine().rotorEfficiency * getExpansionIdealityMultiplier(getTurbine().idealTotalExpansionLevel, getTurbine().totalExpansionLevel) * getThroughputEfficiency() * getTurbine().powerBonus;
+		getTurbine().power = getTurbine().rawPower * getTurbine().conductivity * getTurbine().rotorEfficiency * getExpansionIdealityMultiplier(getTurbine().idealTotalExpansionLevel, getTurbine().totalExpansionLevel) * getSteadyThroughputEfficiency() * getTurbine().powerBonus;
 		getTurbine().angVel = getTurbine().rawMaxPower == 0D ? 0F : (float) (turbine_render_rotor_speed * getTurbine().rawPower / getTurbine().rawMaxPower);
 		
 		if (wasProcessing != getTurbine().isProcessing && getTurbine().controller != null) {
-			getTurbine().sendMultiblockUpdatePacketToAll();
+			getTurbine().sendMultiblockUpdatePacketToTracking();
 		}
 		
 		int maxRecipeRateMultiplier = getMaxRecipeRateMultiplier();
@@ -748,7 +758,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		
 		if (getTurbine().controller != null) {
 			getTurbine().sendMultiblockUpdatePacketToListeners();
-			getTurbine().sendRenderPacketToAll();
+			getTurbine().sendRenderPacketToTracking();
 		}
 		
 		return flag;
@@ -780,7 +790,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		MultiblockRegistry.INSTANCE.addDirtyMultiblock(getWorld(), getTurbine());
 		
 		if (getTurbine().controller != null) {
-			getTurbine().sendMultiblockUpdatePacketToAll();
+			getTurbine().sendMultiblockUpdatePacketToTracking();
 		}
 	}
 	
@@ -790,7 +800,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		if (getTurbine().isTurbineOn != oldIsTurbineOn) {
 			if (getTurbine().controller != null) {
 				getTurbine().controller.setActivity(getTurbine().isTurbineOn);
-				getTurbine().sendMultiblockUpdatePacketToAll();
+				getTurbine().sendMultiblockUpdatePacketToTracking();
 			}
 		}
 	}
@@ -802,8 +812,27 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		return false;
 	}
 	
+	/**
+	 * A previous result is kept while the input fluid is the same, and either there is still enough of it for the recipe or, if nothing matched, its amount is unchanged.
+	 */
 	protected void refreshRecipe() {
+		Tank tank = getTurbine().tanks.get(0);
+		if (tank.isEmpty()) {
+			getTurbine().recipeInfo = null;
+			recipeFluid = null;
+			return;
+		}
+		
+		FluidStack fluid = tank.getFluid();
+		if (recipeFluid != null && fluid.isFluidEqual(recipeFluid)) {
+			RecipeInfo<BasicRecipe> recipeInfo = getTurbine().recipeInfo;
+			if (recipeInfo == null ? fluid.amount == recipeFluid.amount : fluid.amount >= recipeInfo.recipe.getFluidIngredients().get(0).getMaxStackSize(recipeInfo.getFluidIngredientNumbers().get(0))) {
+				return;
+			}
+		}
+		
 		getTurbine().recipeInfo = NCRecipes.turbine.getRecipeInfoFromInputs(new ArrayList<>(), getTurbine().tanks.subList(0, 1));
+		recipeFluid = fluid.copy();
 	}
 	
 	protected boolean canProcessInputs() {
@@ -899,6 +928,44 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 		return getTurbine().inertia * Math.sqrt(increasing ? mult : 1D / mult);
 	}
 	
+	// Steady State
+	
+	public void invalidateSteadyState() {
+		recipeFluid = null;
+		rotorStatsValid = false;
+		powerBonusInputRate = -1;
+		throughputInputRateFP = Double.NaN;
+	}
+	
+	/**
+	 * Only recalculates the rotor efficiency, effective maximum length and throughput leniency if the geometry or the expansion level of the last recipe have changed, and the input rate power bonus if the input rate has.
+	 */
+	protected void refreshSteadyState() {
+		double idealTotalExpansionLevel = getTurbine().idealTotalExpansionLevel;
+		if (!rotorStatsValid || idealTotalExpansionLevel != rotorStatsExpansionLevel) {
+			rotorStatsValid = true;
+			rotorStatsExpansionLevel = idealTotalExpansionLevel;
+			setRotorEfficiency();
+			setEffectiveMaxLength();
+			throughputLeniency = getThroughputLeniency();
+			powerBonusInputRate = -1;
+			throughputInputRateFP = Double.NaN;
+		}
+		
+		if (getTurbine().recipeInputRate != powerBonusInputRate) {
+			powerBonusInputRate = getTurbine().recipeInputRate;
+			setInputRatePowerBonus();
+		}
+	}
+	
+	protected double getSteadyThroughputEfficiency() {
+		if (getTurbine().recipeInputRateFP != throughputInputRateFP) {
+			throughputInputRateFP = getTurbine().recipeInputRateFP;
+			throughputEfficiency = getThroughputEfficiency(throughputLeniency);
+		}
+		return throughputEfficiency;
+	}
+	
 	public void setRotorEfficiency() {
 		getTurbine().rotorEfficiency = 0D;
 		
@@ -934,8 +1001,15 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 	}
 	
 	public double getThroughputEfficiency() {
+		return getThroughputEfficiency(getThroughputLeniency());
+	}
+	
+	public double getThroughputLeniency() {
 		double effectiveMinLength = getTurbine().idealTotalExpansionLevel <= 1D || getTurbine().maxBladeExpansionCoefficient <= 1D ? getMaximumInteriorLength() : Math.ceil(Math.log(getTurbine().idealTotalExpansionLevel) / Math.log(getTurbine().maxBladeExpansionCoefficient));
-		double absoluteLeniency = effectiveMinLength * getTurbine().getMinimumBladeArea() * turbine_mb_per_blade;
+		return effectiveMinLength * getTurbine().getMinimumBladeArea() * turbine_mb_per_blade;
+	}
+	
+	public double getThroughputEfficiency(double absoluteLeniency) {
 		double throughputRatio = getMaxRecipeRateMultiplier() == 0 ? 1D : Math.min(1D, (getTurbine().recipeInputRateFP + absoluteLeniency) / getMaxRecipeRateMultiplier());
 		return throughputRatio >= turbine_throughput_leniency_params[1] ? 1D : (1D - turbine_throughput_leniency_params[0]) * Math.sin(throughputRatio * Math.PI / (2D * turbine_throughput_leniency_params[1])) + turbine_throughput_leniency_params[0];
 	}
@@ -960,6 +1034,9 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 	
 	@Override
 	public void onUpdateClient() {
+		// Ease the rendered rotor speed towards the last synced value, as render packets are only sent on noticeable changes
+		getTurbine().angVel += (getTurbine().syncedAngVel - getTurbine().angVel) * Turbine.RENDER_SYNC_SMOOTHING;
+		
 		if (getTurbine().shouldSpecialRenderRotor && getTurbine().flowDir != null) {
 			if (getTurbine().nbtUpdateRenderDataFlag) {
 				getTurbine().nbtUpdateRenderDataFlag = false;
@@ -1202,7 +1279,7 @@ public class TurbineLogic extends MultiblockLogic<Turbine, TurbineLogic, ITurbin
 	public void onRenderPacket(TurbineRenderPacket message) {
 		getTurbine().particleEffect = message.particleEffect;
 		getTurbine().particleSpeedMult = message.particleSpeedMult;
-		getTurbine().angVel = message.angVel;
+		getTurbine().syncedAngVel = message.angVel;
 		boolean wasProcessing = getTurbine().isProcessing;
 		getTurbine().isProcessing = message.isProcessing;
 		if (wasProcessing != getTurbine().isProcessing) {
@@ -5,9 +5,12 @@ import nc.capability.radiation.entity.IEntityRads;
 import nc.network.NCPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.*;
 import net.minecraftforge.fml.relauncher.Side;
 
+import static nc.capability.radiation.entity.IEntityRads.*;
+
 public class PlayerRadsUpdatePacket extends NCPacket {
 	
 	protected double totalRads;
@@ -29,12 +32,22 @@ public class PlayerRadsUpdatePacket extends NCPacket {
 	protected boolean shouldWarn;
 	protected boolean giveGuidebook;
 	
+	protected int fields;
+	
 	public PlayerRadsUpdatePacket() {
 		super();
 	}
 	
 	public PlayerRadsUpdatePacket(IEntityRads playerRads) {
+		this(playerRads, SYNC_ALL);
+	}
+	
+	/**
+	 * Only the fields flagged in the bitmask are encoded, so a packet for a player whose radiation is steady carries a few bytes rather than the full capability.
+	 */
+	public PlayerRadsUpdatePacket(IEntityRads playerRads, int fields) {
 		super();
+		this.fields = fields;
 		totalRads = playerRads.getTotalRads();
 		radiationLevel = playerRads.getRadiationLevel();
 		internalRadiationResistance = playerRads.getInternalRadiationResistance();
@@ -60,51 +73,137 @@ public class PlayerRadsUpdatePacket extends NCPacket {
 	@Override
 	public void fromBytes(ByteBuf buf) {
 		super.fromBytes(buf);
-		totalRads = buf.readDouble();
-		radiationLevel = buf.readDouble();
-		internalRadiationResistance = buf.readDouble();
-		externalRadiationResistance = buf.readDouble();
-		radXUsed = buf.readBoolean();
-		radXWoreOff = buf.readBoolean();
-		radawayBuffer = buf.readDouble();
-		radawayBufferSlow = buf.readDouble();
-		poisonBuffer = buf.readDouble();
-		consumed = buf.readBoolean();
-		radawayCooldown = buf.readDouble();
-		recentRadawayAddition = buf.readDouble();
-		radXCooldown = buf.readDouble();
-		recentRadXAddition = buf.readDouble();
-		messageCooldownTime = buf.readInt();
-		recentPoisonAddition = buf.readDouble();
-		radiationImmunityTime = buf.readDouble();
-		radiationImmunityStage = buf.readBoolean();
-		shouldWarn = buf.readBoolean();
-		giveGuidebook = buf.readBoolean();
+		fields = ByteBufUtils.readVarInt(buf, 3);
+		if (has(SYNC_TOTAL_RADS)) {
+			totalRads = buf.readDouble();
+		}
+		if (has(SYNC_RADIATION_LEVEL)) {
+			radiationLevel = buf.readDouble();
+		}
+		if (has(SYNC_INTERNAL_RADIATION_RESISTANCE)) {
+			internalRadiationResistance = buf.readDouble();
+		}
+		if (has(SYNC_EXTERNAL_RADIATION_RESISTANCE)) {
+			externalRadiationResistance = buf.readDouble();
+		}
+		if (has(SYNC_RAD_X_USED)) {
+			radXUsed = buf.readBoolean();
+		}
+		if (has(SYNC_RAD_X_WORE_OFF)) {
+			radXWoreOff = buf.readBoolean();
+		}
+		if (has(SYNC_RADAWAY_BUFFER)) {
+			radawayBuffer = buf.readDouble();
+		}
+		if (has(SYNC_RADAWAY_BUFFER_SLOW)) {
+			radawayBufferSlow = buf.readDouble();
+		}
+		if (has(SYNC_POISON_BUFFER)) {
+			poisonBuffer = buf.readDouble();
+		}
+		if (has(SYNC_CONSUMED)) {
+			consumed = buf.readBoolean();
+		}
+		if (has(SYNC_RADAWAY_COOLDOWN)) {
+			radawayCooldown = buf.readDouble();
+		}
+		if (has(SYNC_RECENT_RADAWAY_ADDITION)) {
+			recentRadawayAddition = buf.readDouble();
+		}
+		if (has(SYNC_RAD_X_COOLDOWN)) {
+			radXCooldown = buf.readDouble();
+		}
+		if (has(SYNC_RECENT_RAD_X_ADDITION)) {
+			recentRadXAddition = buf.readDouble();
+		}
+		if (has(SYNC_MESSAGE_COOLDOWN_TIME)) {
+			messageCooldownTime = buf.readInt();
+		}
+		if (has(SYNC_RECENT_POISON_ADDITION)) {
+			recentPoisonAddition = buf.readDouble();
+		}
+		if (has(SYNC_RADIATION_IMMUNITY_TIME)) {
+			radiationImmunityTime = buf.readDouble();
+		}
+		if (has(SYNC_RADIATION_IMMUNITY_STAGE)) {
+			radiationImmunityStage = buf.readBoolean();
+		}
+		if (has(SYNC_SHOULD_WARN)) {
+			shouldWarn = buf.readBoolean();
+		}
+		if (has(SYNC_GIVE_GUIDEBOOK)) {
+			giveGuidebook = buf.readBoolean();
+		}
 	}
 	
 	@Override
 	public void toBytes(ByteBuf buf) {
 		super.toBytes(buf);
-		buf.writeDouble(totalRads);
-		buf.writeDouble(radiationLevel);
-		buf.writeDouble(internalRadiationResistance);
-		buf.writeDouble(externalRadiationResistance);
-		buf.writeBoolean(radXUsed);
-		buf.writeBoolean(radXWoreOff);
-		buf.writeDouble(radawayBuffer);
-		buf.writeDouble(radawayBufferSlow);
-		buf.writeDouble(poisonBuffer);
-		buf.writeBoolean(consumed);
-		buf.writeDouble(radawayCooldown);
-		buf.writeDouble(recentRadawayAddition);
-		buf.writeDouble(radXCooldown);
-		buf.writeDouble(recentRadXAddition);
-		buf.writeInt(messageCooldownTime);
-		buf.writeDouble(recentPoisonAddition);
-		buf.writeDouble(radiationImmunityTime);
-		buf.writeBoolean(radiationImmunityStage);
-		buf.writeBoolean(shouldWarn);
-		buf.writeBoolean(giveGuidebook);
+		ByteBufUtils.writeVarInt(buf, fields, 3);
+		if (has(SYNC_TOTAL_RADS)) {
+			buf.writeDouble(totalRads);
+		}
+		if (has(SYNC_RADIATION_LEVEL)) {
+			buf.writeDouble(radiationLevel);
+		}
+		if (has(SYNC_INTERNAL_RADIATION_RESISTANCE)) {
+			buf.writeDouble(internalRadiationResistance);
+		}
+		if (has(SYNC_EXTERNAL_RADIATION_RESISTANCE)) {
+			buf.writeDouble(externalRadiationResistance);
+		}
+		if (has(SYNC_RAD_X_USED)) {
+			buf.writeBoolean(radXUsed);
+		}
+		if (has(SYNC_RAD_X_WORE_OFF)) {
+			buf.writeBoolean(radXWoreOff);
+		}
+		if (has(SYNC_RADAWAY_BUFFER)) {
+			buf.writeDouble(radawayBuffer);
+		}
+		if (has(SYNC_RADAWAY_BUFFER_SLOW)) {
+			buf.writeDouble(radawayBufferSlow);
+		}
+		if (has(SYNC_POISON_BUFFER)) {
+			buf.writeDouble(poisonBuffer);
+		}
+		if (has(SYNC_CONSUMED)) {
+			buf.writeBoolean(consumed);
+		}
+		if (has(SYNC_RADAWAY_COOLDOWN)) {
+			buf.writeDouble(radawayCooldown);
+		}
+		if (has(SYNC_RECENT_RADAWAY_ADDITION)) {
+			buf.writeDouble(recentRadawayAddition);
+		}
+		if (has(SYNC_RAD_X_COOLDOWN)) {
+			buf.writeDouble(radXCooldown);
+		}
+		if (has(SYNC_RECENT_RAD_X_ADDITION)) {
+			buf.writeDouble(recentRadXAddition);
+		}
+		if (has(SYNC_MESSAGE_COOLDOWN_TIME)) {
+			buf.writeInt(messageCooldownTime);
+		}
+		if (has(SYNC_RECENT_POISON_ADDITION)) {
+			buf.writeDouble(recentPoisonAddition);
+		}
+		if (has(SYNC_RADIATION_IMMUNITY_TIME)) {
+			buf.writeDouble(radiationImmunityTime);
+		}
+		if (has(SYNC_RADIATION_IMMUNITY_STAGE)) {
+			buf.writeBoolean(radiationImmunityStage);
+		}
+		if (has(SYNC_SHOULD_WARN)) {
+			buf.writeBoolean(shouldWarn);
+		}
+		if (has(SYNC_GIVE_GUIDEBOOK)) {
+			buf.writeBoolean(giveGuidebook);
+		}
+	}
+	
+	protected boolean has(int field) {
+		return (fields & field) != 0;
 	}
 	
 	public static class Handler implements IMessageHandler<PlayerRadsUpdatePacket, IMessage> {
@@ -123,26 +222,66 @@ public class PlayerRadsUpdatePacket extends NCPacket {
 						return;
 					}
 					
-					playerRads.setTotalRads(message.totalRads, false);
-					playerRads.setRadiationLevel(message.radiationLevel);
-					playerRads.setInternalRadiationResistance(message.internalRadiationResistance);
-					playerRads.setExternalRadiationResistance(message.externalRadiationResistance);
-					playerRads.setRadXUsed(message.radXUsed);
-					playerRads.setRadXWoreOff(message.radXWoreOff);
-					playerRads.setRadawayBuffer(false, message.radawayBuffer);
-					playerRads.setRadawayBuffer(true, message.radawayBufferSlow);
-					playerRads.setPoisonBuffer(message.poisonBuffer);
-					playerRads.setConsumedMedicine(message.consumed);
-					playerRads.setRadawayCooldown(message.radawayCooldown);
-					playerRads.setRecentRadawayAddition(message.recentRadawayAddition);
-					playerRads.setRadXCooldown(message.radXCooldown);
-					playerRads.setRecentRadXAddition(message.recentRadXAddition);
-					playerRads.setMessageCooldownTime(message.messageCooldownTime);
-					playerRads.setRecentPoisonAddition(message.recentPoisonAddition);
-					playerRads.setRadiationImmunityTime(message.radiationImmunityTime);
-					playerRads.setRadiationImmunityStage(message.radiationImmunityStage);
-					playerRads.setShouldWarn(message.shouldWarn);
-					playerRads.setGiveGuidebook(message.giveGuidebook);
+					if (message.has(SYNC_TOTAL_RADS)) {
+						playerRads.setTotalRads(message.totalRads, false);
+					}
+					if (message.has(SYNC_RADIATION_LEVEL)) {
+						playerRads.setRadiationLevel(message.radiationLevel);
+					}
+					if (message.has(SYNC_INTERNAL_RADIATION_RESISTANCE)) {
+						playerRads.setInternalRadiationResistance(message.internalRadiationResistance);
+					}
+					if (message.has(SYNC_EXTERNAL_RADIATION_RESISTANCE)) {
+						playerRads.setExternalRadiationResistance(message.externalRadiationResistance);
+					}
+					if (message.has(SYNC_RAD_X_USED)) {
+						playerRads.setRadXUsed(message.radXUsed);
+					}
+					if (message.has(SYNC_RAD_X_WORE_OFF)) {
+						playerRads.setRadXWoreOff(message.radXWoreOff);
+					}
+					if (message.has(SYNC_RADAWAY_BUFFER)) {
+						playerRads.setRadawayBuffer(false, message.radawayBuffer);
+					}
+					if (message.has(SYNC_RADAWAY_BUFFER_SLOW)) {
+						playerRads.setRadawayBuffer(true, message.radawayBufferSlow);
+					}
+					if (message.has(SYNC_POISON_BUFFER)) {
+						playerRads.setPoisonBuffer(message.poisonBuffer);
+					}
+					if (message.has(SYNC_CONSUMED)) {
+						playerRads.setConsumedMedicine(message.consumed);
+					}
+					if (message.has(SYNC_RADAWAY_COOLDOWN)) {
+						playerRads.setRadawayCooldown(message.radawayCooldown);
+					}
+					if (message.has(SYNC_RECENT_RADAWAY_ADDITION)) {
+						playerRads.setRecentRadawayAddition(message.recentRadawayAddition);
+					}
+					if (message.has(SYNC_RAD_X_COOLDOWN)) {
+						playerRads.setRadXCooldown(message.radXCooldown);
+					}
+					if (message.has(SYNC_RECENT_RAD_X_ADDITION)) {
+						playerRads.setRecentRadXAddition(message.recentRadXAddition);
+					}
+					if (message.has(SYNC_MESSAGE_COOLDOWN_TIME)) {
+						playerRads.setMessageCooldownTime(message.messageCooldownTime);
+					}
+					if (message.has(SYNC_RECENT_POISON_ADDITION)) {
+						playerRads.setRecentPoisonAddition(message.recentPoisonAddition);
+					}
+					if (message.has(SYNC_RADIATION_IMMUNITY_TIME)) {
+						playerRads.setRadiationImmunityTime(message.radiationImmunityTime);
+					}
+					if (message.has(SYNC_RADIATION_IMMUNITY_STAGE)) {
+						playerRads.setRadiationImmunityStage(message.radiationImmunityStage);
+					}
+					if (message.has(SYNC_SHOULD_WARN)) {
+						playerRads.setShouldWarn(message.shouldWarn);
+					}
+					if (message.has(SYNC_GIVE_GUIDEBOOK)) {
+						playerRads.setGiveGuidebook(message.giveGuidebook);
+					}
 				});
 			}
 			return null;
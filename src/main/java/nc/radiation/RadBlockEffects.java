@@ -1,18 +1,83 @@
 package nc.radiation;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.*;
 import nc.init.NCBlocks;
-import nc.recipe.BasicRecipeHandler;
+import nc.recipe.*;
+import nc.util.StackHelper;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
 
-import java.util.List;
+import javax.annotation.*;
+import java.util.*;
 
 public class RadBlockEffects {
 	
-	public static class RadiationBlockMutation extends BasicRecipeHandler {
+	/**
+	 * Block effect handler which memoises the threshold and result state of each block state it is queried with, so terrain effects only do a full recipe match the first time a state is sampled after a recipe reload.
+	 */
+	public static abstract class BlockEffectRecipeHandler extends BasicRecipeHandler {
+		
+		protected static final BlockEffect NO_EFFECT = new BlockEffect(0D, null);
+		
+		protected final Reference2ObjectMap<IBlockState, BlockEffect> effectCache = new Reference2ObjectOpenHashMap<>();
+		
+		public BlockEffectRecipeHandler(@Nonnull String name) {
+			super(name, 1, 0, 1, 0);
+		}
+		
+		@Override
+		public void refreshCache() {
+			super.refreshCache();
+			effectCache.clear();
+		}
+		
+		public @Nullable BlockEffect getBlockEffect(IBlockState state) {
+			BlockEffect effect = effectCache.get(state);
+			if (effect == null) {
+				effect = findBlockEffect(state);
+				effectCache.put(state, effect);
+			}
+			return effect == NO_EFFECT ? null : effect;
+		}
+		
+		protected BlockEffect findBlockEffect(IBlockState state) {
+			ItemStack stack = StackHelper.blockStateToStack(state);
+			if (stack == null || stack.isEmpty()) {
+				return NO_EFFECT;
+			}
+			
+			RecipeInfo<BasicRecipe> recipeInfo = getRecipeInfoFromInputs(Collections.singletonList(stack), Collections.emptyList());
+			if (recipeInfo == null) {
+				return NO_EFFECT;
+			}
+			
+			ItemStack output = RecipeHelper.getItemStackFromIngredientList(recipeInfo.recipe.getItemProducts(), 0);
+			if (output == null) {
+				return NO_EFFECT;
+			}
+			
+			IBlockState result = StackHelper.getBlockStateFromStack(output);
+			return result == null ? NO_EFFECT : new BlockEffect(recipeInfo.recipe.getBlockMutationThreshold(), result);
+		}
+	}
+	
+	public static class BlockEffect {
+		
+		public final double threshold;
+		public final IBlockState result;
+		
+		protected BlockEffect(double threshold, IBlockState result) {
+			this.threshold = threshold;
+			this.result = result;
+		}
+	}
+	
+	public static class RadiationBlockMutation extends BlockEffectRecipeHandler {
 		
 		public RadiationBlockMutation() {
-			super("radiation_block_mutation", 1, 0, 1, 0);
+			super("radiation_block_mutation");
 		}
 		
 		@Override
@@ -30,10 +95,10 @@ public class RadBlockEffects {
 		}
 	}
 	
-	public static class RadiationBlockPurification extends BasicRecipeHandler {
+	public static class RadiationBlockPurification extends BlockEffectRecipeHandler {
 		
 		public RadiationBlockPurification() {
-			super("radiation_block_purification", 1, 0, 1, 0);
+			super("radiation_block_purification");
 		}
 		
 		@Override
@@ -0,0 +1,122 @@
+package nc.radiation;
+
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.List;
+
+/**
+ * Per-dimension ring of loaded chunks, kept up to date by chunk load and unload events, from which the world radiation tick takes a fixed-size slice each tick.
+ */
+public class RadiationChunkScheduler {
+	
+	private static final Int2ObjectMap<RadiationChunkScheduler> SCHEDULER_MAP = new Int2ObjectOpenHashMap<>();
+	
+	private final LongList posRing = new LongArrayList();
+	private final List<Chunk> chunkRing = new ObjectArrayList<>();
+	private final Long2IntMap indexMap = new Long2IntOpenHashMap();
+	
+	private final List<Chunk> slice = new ObjectArrayList<>();
+	
+	private int cursor = 0;
+	
+	private RadiationChunkScheduler() {
+		indexMap.defaultReturnValue(-1);
+	}
+	
+	public static RadiationChunkScheduler get(WorldServer world) {
+		int dimension = world.provider.getDimension();
+		RadiationChunkScheduler scheduler = SCHEDULER_MAP.get(dimension);
+		if (scheduler == null) {
+			scheduler = new RadiationChunkScheduler();
+			for (Chunk chunk : world.getChunkProvider().getLoadedChunks()) {
+				scheduler.add(chunk);
+			}
+			SCHEDULER_MAP.put(dimension, scheduler);
+		}
+		return scheduler;
+	}
+	
+	public static void onChunkLoad(WorldServer world, Chunk chunk) {
+		get(world).add(chunk);
+	}
+	
+	public static void onChunkUnload(WorldServer world, Chunk chunk) {
+		RadiationChunkScheduler scheduler = SCHEDULER_MAP.get(world.provider.getDimension());
+		if (scheduler != null) {
+			scheduler.remove(chunk);
+		}
+	}
+	
+	public static void onWorldUnload(WorldServer world) {
+		SCHEDULER_MAP.remove(world.provider.getDimension());
+	}
+	
+	public int size() {
+		return posRing.size();
+	}
+	
+	public boolean isLoaded(long pos) {
+		return indexMap.containsKey(pos);
+	}
+	
+	protected void add(Chunk chunk) {
+		long pos = ChunkPos.asLong(chunk.x, chunk.z);
+		if (indexMap.containsKey(pos)) {
+			chunkRing.set(indexMap.get(pos), chunk);
+			return;
+		}
+		indexMap.put(pos, posRing.size());
+		posRing.add(pos);
+		chunkRing.add(chunk);
+	}
+	
+	/**
+	 * Swap-removes the chunk from the ring, so removal is O(1) at the cost of one chunk being visited slightly out of turn.
+	 */
+	protected void remove(Chunk chunk) {
+		long pos = ChunkPos.asLong(chunk.x, chunk.z);
+		int index = indexMap.remove(pos);
+		if (index < 0) {
+			return;
+		}
+		
+		int last = posRing.size() - 1;
+		if (index != last) {
+			long lastPos = posRing.getLong(last);
+			posRing.set(index, lastPos);
+			chunkRing.set(index, chunkRing.get(last));
+			indexMap.put(lastPos, index);
+		}
+		posRing.removeLong(last);
+		chunkRing.remove(last);
+		
+		if (cursor > last) {
+			cursor = 0;
+		}
+	}
+	
+	/**
+	 * Advances the cursor around the ring and returns the next chunks to be updated. The returned list is reused between calls.
+	 */
+	public List<Chunk> nextSlice(int count) {
+		slice.clear();
+		int size = posRing.size();
+		if (size == 0) {
+			return slice;
+		}
+		
+		count = Math.min(count, size);
+		for (int i = 0; i < count; ++i) {
+			if (cursor >= size) {
+				cursor = 0;
+			}
+			slice.add(chunkRing.get(cursor++));
+		}
+		return slice;
+	}
+}
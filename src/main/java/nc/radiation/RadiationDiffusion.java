@@ -0,0 +1,107 @@
+package nc.radiation;
+
+import nc.util.ParallelHelper;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.*;
+
+import static nc.config.NCConfig.*;
+
+/**
+ * Spreads radiation from each chunk of the current slice into one loaded neighbour. Spread amounts are computed from the levels as they stood before the pass, so slices can be split across the worker pool, and are then applied in slice order. The neighbour is picked from a hash of the world seed, world time and chunk position, so the result does not depend on iteration or thread order.
+ */
+public class RadiationDiffusion {
+	
+	public static final RadiationDiffusion INSTANCE = new RadiationDiffusion();
+	
+	protected static final ParallelHelper.ConfigPool POOL = new ParallelHelper.ConfigPool("NuclearCraft Radiation Spread", () -> radiation_spread_threads);
+	protected static final int MIN_PARALLEL_RANGE = 64;
+	
+	protected static final int[] ADJACENT_X = new int[] {1, 0, -1, 0};
+	protected static final int[] ADJACENT_Z = new int[] {0, 1, 0, -1};
+	
+	protected int[] sourceSlots = new int[0];
+	protected long[] targetPositions = new long[0];
+	protected double[] spread = new double[0];
+	
+	protected RadiationDiffusion() {}
+	
+	public void spread(WorldServer world, RadiationField field, RadiationChunkScheduler scheduler, List<Chunk> chunks) {
+		int count = chunks.size();
+		if (sourceSlots.length < count) {
+			sourceSlots = new int[count];
+			targetPositions = new long[count];
+			spread = new double[count];
+		}
+		
+		for (int i = 0; i < count; ++i) {
+			Chunk chunk = chunks.get(i);
+			sourceSlots[i] = chunk.isLoaded() ? field.getOrCreateSlot(chunk) : -1;
+		}
+		
+		long seed = world.getSeed() ^ world.getTotalWorldTime() * 0x9E3779B97F4A7C15L;
+		ParallelHelper.forRange(POOL.get(), count, MIN_PARALLEL_RANGE, (start, end) -> computeSpread(field, scheduler, seed, start, end));
+		
+		for (int i = 0; i < count; ++i) {
+			int slot = sourceSlots[i];
+			if (slot < 0 || spread[i] == 0D) {
+				continue;
+			}
+			int targetSlot = field.getOrCreateSlot(targetPositions[i]);
+			field.setRadiationLevel(slot, field.getRadiationLevel(slot) - spread[i]);
+			field.setRadiationLevel(targetSlot, field.getRadiationLevel(targetSlot) + spread[i] * (1D - field.getScrubbingFraction(targetSlot)));
+		}
+		
+		for (int i = 0; i < count; ++i) {
+			int slot = sourceSlots[i];
+			if (slot < 0) {
+				continue;
+			}
+			field.setRadiationBuffer(slot, 0D);
+			if (field.isRadiationNegligible(slot)) {
+				field.setRadiationLevel(slot, 0D);
+			}
+		}
+	}
+	
+	/**
+	 * Only reads from the field and scheduler, and only writes to this pass's own entries in the output arrays, so disjoint ranges can be run concurrently.
+	 */
+	protected void computeSpread(RadiationField field, RadiationChunkScheduler scheduler, long seed, int start, int end) {
+		for (int i = start; i < end; ++i) {
+			spread[i] = 0D;
+			
+			int slot = sourceSlots[i];
+			if (slot < 0 || field.isRadiationNegligible(slot)) {
+				continue;
+			}
+			
+			long pos = field.getPosition(slot);
+			int x = (int) pos, z = (int) (pos >> 32);
+			int offset = (int) (mix(seed ^ pos) >>> 62);
+			
+			for (int j = 0; j < 4; ++j) {
+				int dir = (offset + j) & 3;
+				long targetPos = ChunkPos.asLong(x + ADJACENT_X[dir], z + ADJACENT_Z[dir]);
+				if (!scheduler.isLoaded(targetPos)) {
+					continue;
+				}
+				
+				double level = field.getRadiationLevel(slot), targetLevel = field.getRadiationLevel(field.getSlot(targetPos));
+				if (targetLevel == 0D || level / targetLevel > 1D + radiation_spread_gradient) {
+					spread[i] = (level - targetLevel) * radiation_spread_rate;
+					targetPositions[i] = targetPos;
+				}
+				break;
+			}
+		}
+	}
+	
+	protected static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
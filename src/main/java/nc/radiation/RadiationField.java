@@ -0,0 +1,435 @@
+package nc.radiation;
+
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.*;
+import nc.util.NCUtil;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.*;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.util.Arrays;
+
+import static nc.config.NCConfig.radiation_lowest_rate;
+
+/**
+ * Per-dimension store of chunk radiation. Level, buffer, scrubbing fraction and effective scrubber count are held in packed primitive arrays indexed by a slot looked up from the chunk's long position. Entries are paged in and out by 32x32 chunk region, each saved to its own file in the dimension's save folder, and a region is saved and evicted once its last loaded chunk has unloaded and been saved.
+ * <p>
+ * Each chunk's entry is also written to the chunk's own data, stamped with the world time, so whichever of the chunk and its region was saved last is used when it is loaded again.
+ */
+public class RadiationField {
+	
+	private static final int FILE_MAGIC = 0x4E435246;
+	private static final int FILE_VERSION = 2;
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final int REGION_SHIFT = 5;
+	
+	private static final Int2ObjectMap<RadiationField> FIELD_MAP = new Int2ObjectOpenHashMap<>();
+	
+	protected final WorldServer world;
+	protected final File directory;
+	
+	protected final Long2IntMap slotMap = new Long2IntOpenHashMap();
+	protected final IntList freeSlots = new IntArrayList();
+	protected int slotCount = 0;
+	
+	protected long[] positions = new long[INITIAL_CAPACITY];
+	protected double[] radiationLevel = new double[INITIAL_CAPACITY];
+	protected double[] radiationBuffer = new double[INITIAL_CAPACITY];
+	protected double[] scrubbingFraction = new double[INITIAL_CAPACITY];
+	protected double[] effectiveScrubberCount = new double[INITIAL_CAPACITY];
+	
+	protected final Long2ObjectMap<Region> regionMap = new Long2ObjectOpenHashMap<>();
+	protected final LongSet pendingEvictions = new LongOpenHashSet();
+	
+	protected RadiationField(WorldServer world) {
+		this.world = world;
+		File saveLocation = world.getChunkSaveLocation();
+		directory = saveLocation == null ? null : new File(saveLocation, "nuclearcraft/radiation");
+		slotMap.defaultReturnValue(-1);
+	}
+	
+	public static RadiationField get(WorldServer world) {
+		int dimension = world.provider.getDimension();
+		RadiationField field = FIELD_MAP.get(dimension);
+		if (field == null) {
+			field = new RadiationField(world);
+			FIELD_MAP.put(dimension, field);
+		}
+		return field;
+	}
+	
+	/**
+	 * Does not create a field for the world if there is none.
+	 */
+	public static @Nullable RadiationField getIfPresent(WorldServer world) {
+		return FIELD_MAP.get(world.provider.getDimension());
+	}
+	
+	public static void onWorldSave(WorldServer world) {
+		RadiationField field = getIfPresent(world);
+		if (field != null) {
+			field.saveAll();
+		}
+	}
+	
+	public static void onWorldUnload(WorldServer world) {
+		RadiationField field = FIELD_MAP.remove(world.provider.getDimension());
+		if (field != null) {
+			for (Region region : field.regionMap.values()) {
+				field.save(region);
+			}
+		}
+	}
+	
+	/**
+	 * Should be called at the end of the world tick, after chunks unloaded during the tick have been saved.
+	 */
+	public static void onWorldTickEnd(WorldServer world) {
+		RadiationField field = getIfPresent(world);
+		if (field != null) {
+			field.evictPending();
+		}
+	}
+	
+	// Regions
+	
+	protected static long getRegionKey(long pos) {
+		return ChunkPos.asLong((int) pos >> REGION_SHIFT, (int) (pos >> 32) >> REGION_SHIFT);
+	}
+	
+	protected Region getOrLoadRegion(long regionKey) {
+		Region region = regionMap.get(regionKey);
+		if (region == null) {
+			region = new Region(regionKey);
+			regionMap.put(regionKey, region);
+			load(region);
+		}
+		return region;
+	}
+	
+	public void onChunkLoad(Chunk chunk) {
+		long regionKey = getRegionKey(ChunkPos.asLong(chunk.x, chunk.z));
+		++getOrLoadRegion(regionKey).loadedChunks;
+		pendingEvictions.remove(regionKey);
+	}
+	
+	/**
+	 * The region is only evicted at the end of the tick, as the chunk's entry is still needed when the chunk is saved.
+	 */
+	public void onChunkUnload(Chunk chunk) {
+		long regionKey = getRegionKey(ChunkPos.asLong(chunk.x, chunk.z));
+		Region region = regionMap.get(regionKey);
+		if (region != null && --region.loadedChunks <= 0) {
+			pendingEvictions.add(regionKey);
+		}
+	}
+	
+	protected void evictPending() {
+		if (pendingEvictions.isEmpty()) {
+			return;
+		}
+		
+		LongIterator iterator = pendingEvictions.iterator();
+		while (iterator.hasNext()) {
+			Region region = regionMap.get(iterator.nextLong());
+			if (region != null && region.loadedChunks <= 0) {
+				save(region);
+				evict(region);
+			}
+		}
+		pendingEvictions.clear();
+	}
+	
+	protected void saveAll() {
+		Region[] regions = regionMap.values().toArray(new Region[0]);
+		for (Region region : regions) {
+			save(region);
+			if (region.loadedChunks <= 0) {
+				evict(region);
+			}
+		}
+		pendingEvictions.clear();
+	}
+	
+	protected void evict(Region region) {
+		LongIterator iterator = region.positions.iterator();
+		while (iterator.hasNext()) {
+			long pos = iterator.nextLong();
+			int slot = slotMap.remove(pos);
+			if (slot >= 0) {
+				radiationLevel[slot] = radiationBuffer[slot] = scrubbingFraction[slot] = effectiveScrubberCount[slot] = 0D;
+				freeSlots.add(slot);
+			}
+		}
+		regionMap.remove(region.key);
+	}
+	
+	// Slots
+	
+	public int getSlot(long pos) {
+		return slotMap.get(pos);
+	}
+	
+	public int getSlot(Chunk chunk) {
+		return slotMap.get(ChunkPos.asLong(chunk.x, chunk.z));
+	}
+	
+	/**
+	 * Pages in the position's region if it is not already loaded.
+	 */
+	public int getOrCreateSlot(long pos) {
+		int slot = slotMap.get(pos);
+		if (slot >= 0) {
+			return slot;
+		}
+		
+		Region region = getOrLoadRegion(getRegionKey(pos));
+		slot = slotMap.get(pos);
+		if (slot >= 0) {
+			return slot;
+		}
+		
+		return createSlot(region, pos);
+	}
+	
+	protected int createSlot(Region region, long pos) {
+		int slot;
+		if (freeSlots.isEmpty()) {
+			slot = slotCount++;
+			if (slot >= positions.length) {
+				grow(positions.length << 1);
+			}
+		}
+		else {
+			slot = freeSlots.removeInt(freeSlots.size() - 1);
+		}
+		
+		positions[slot] = pos;
+		radiationLevel[slot] = radiationBuffer[slot] = scrubbingFraction[slot] = effectiveScrubberCount[slot] = 0D;
+		slotMap.put(pos, slot);
+		region.positions.add(pos);
+		return slot;
+	}
+	
+	public int getOrCreateSlot(Chunk chunk) {
+		return getOrCreateSlot(ChunkPos.asLong(chunk.x, chunk.z));
+	}
+	
+	public long getPosition(int slot) {
+		return positions[slot];
+	}
+	
+	/**
+	 * The highest slot index in use plus one. Freed slots below this bound hold zeroed values.
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+	
+	protected boolean isSlotEmpty(int slot) {
+		return radiationLevel[slot] == 0D && radiationBuffer[slot] == 0D;
+	}
+	
+	protected void grow(int capacity) {
+		positions = Arrays.copyOf(positions, capacity);
+		radiationLevel = Arrays.copyOf(radiationLevel, capacity);
+		radiationBuffer = Arrays.copyOf(radiationBuffer, capacity);
+		scrubbingFraction = Arrays.copyOf(scrubbingFraction, capacity);
+		effectiveScrubberCount = Arrays.copyOf(effectiveScrubberCount, capacity);
+	}
+	
+	// Values
+	
+	public double getRadiationLevel(int slot) {
+		return slot < 0 ? 0D : radiationLevel[slot];
+	}
+	
+	public void setRadiationLevel(int slot, double newRads) {
+		radiationLevel[slot] = Math.max(newRads, 0D);
+	}
+	
+	public boolean isRadiationNegligible(int slot) {
+		return getRadiationLevel(slot) < radiation_lowest_rate;
+	}
+	
+	public double getRadiationBuffer(int slot) {
+		return slot < 0 ? 0D : radiationBuffer[slot];
+	}
+	
+	public void setRadiationBuffer(int slot, double newBuffer) {
+		radiationBuffer[slot] = newBuffer;
+	}
+	
+	public void addToRadiationBuffer(int slot, double addedRadiation) {
+		radiationBuffer[slot] += addedRadiation;
+	}
+	
+	public double getScrubbingFraction(int slot) {
+		return slot < 0 ? 0D : scrubbingFraction[slot];
+	}
+	
+	public void setScrubbingFraction(int slot, double newFraction) {
+		scrubbingFraction[slot] = MathHelper.clamp(newFraction, 0D, 1D);
+	}
+	
+	public double getEffectiveScrubberCount(int slot) {
+		return slot < 0 ? 0D : effectiveScrubberCount[slot];
+	}
+	
+	public void setEffectiveScrubberCount(int slot, double newScrubberCount) {
+		effectiveScrubberCount[slot] = Math.max(0D, newScrubberCount);
+	}
+	
+	// Chunk NBT
+	
+	public void writeChunkNBT(long pos, NBTTagCompound nbt) {
+		int slot = slotMap.get(pos);
+		if (slot < 0) {
+			return;
+		}
+		nbt.setDouble("radiationLevel", radiationLevel[slot]);
+		nbt.setDouble("radiationBuffer", radiationBuffer[slot]);
+		nbt.setDouble("scrubbingFraction", scrubbingFraction[slot]);
+		nbt.setDouble("effectiveScrubberCount", effectiveScrubberCount[slot]);
+		nbt.setLong("radiationSaveTime", world.getTotalWorldTime());
+	}
+	
+	/**
+	 * Uses the chunk's data if it was saved after the region, or if the region has no entry for the chunk, as is the case for data written by older versions. Should only be called on the server thread, after {@link #onChunkLoad(Chunk)} has counted the chunk as loaded.
+	 */
+	public void readChunkNBT(long pos, NBTTagCompound nbt) {
+		if (!nbt.hasKey("radiationLevel")) {
+			return;
+		}
+		
+		Region region = getOrLoadRegion(getRegionKey(pos));
+		int slot = slotMap.get(pos);
+		if (slot >= 0 && !(nbt.hasKey("radiationSaveTime") && nbt.getLong("radiationSaveTime") > region.saveTime)) {
+			return;
+		}
+		
+		if (slot < 0) {
+			slot = createSlot(region, pos);
+		}
+		setRadiationLevel(slot, nbt.getDouble("radiationLevel"));
+		setRadiationBuffer(slot, nbt.getDouble("radiationBuffer"));
+		setScrubbingFraction(slot, nbt.getDouble("scrubbingFraction"));
+		setEffectiveScrubberCount(slot, nbt.getDouble("effectiveScrubberCount"));
+	}
+	
+	// File IO
+	
+	protected @Nullable File getFile(Region region) {
+		return directory == null ? null : new File(directory, "r." + (int) region.key + "." + (int) (region.key >> 32) + ".dat");
+	}
+	
+	protected void load(Region region) {
+		File file = getFile(region);
+		if (file == null || !file.isFile()) {
+			return;
+		}
+		
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+				NCUtil.getLogger().warn("Ignoring radiation region file with unknown format: " + file);
+				return;
+			}
+			
+			region.saveTime = in.readLong();
+			int count = in.readInt();
+			for (int i = 0; i < count; ++i) {
+				long pos = in.readLong();
+				int slot = slotMap.get(pos);
+				if (slot < 0) {
+					slot = createSlot(region, pos);
+				}
+				radiationLevel[slot] = in.readDouble();
+				radiationBuffer[slot] = in.readDouble();
+				scrubbingFraction[slot] = in.readDouble();
+				effectiveScrubberCount[slot] = in.readDouble();
+			}
+		} catch (IOException e) {
+			NCUtil.getLogger().catching(e);
+		}
+	}
+	
+	/**
+	 * Regions holding nothing worth keeping have their file removed rather than written.
+	 */
+	protected void save(Region region) {
+		File file = getFile(region);
+		if (file == null) {
+			return;
+		}
+		
+		int count = 0;
+		LongIterator iterator = region.positions.iterator();
+		while (iterator.hasNext()) {
+			int slot = slotMap.get(iterator.nextLong());
+			if (slot >= 0 && !isSlotEmpty(slot)) {
+				++count;
+			}
+		}
+		
+		if (count == 0) {
+			if (file.exists() && !file.delete()) {
+				NCUtil.getLogger().warn("Could not delete empty radiation region file: " + file);
+			}
+			return;
+		}
+		
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			NCUtil.getLogger().warn("Could not create radiation region directory: " + directory);
+			return;
+		}
+		
+		long saveTime = world.getTotalWorldTime();
+		File temp = new File(directory, file.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(FILE_MAGIC);
+			out.writeInt(FILE_VERSION);
+			out.writeLong(saveTime);
+			out.writeInt(count);
+			iterator = region.positions.iterator();
+			while (iterator.hasNext()) {
+				long pos = iterator.nextLong();
+				int slot = slotMap.get(pos);
+				if (slot < 0 || isSlotEmpty(slot)) {
+					continue;
+				}
+				out.writeLong(pos);
+				out.writeDouble(radiationLevel[slot]);
+				out.writeDouble(radiationBuffer[slot]);
+				out.writeDouble(scrubbingFraction[slot]);
+				out.writeDouble(effectiveScrubberCount[slot]);
+			}
+		} catch (IOException e) {
+			NCUtil.getLogger().catching(e);
+			return;
+		}
+		
+		if (file.exists() && !file.delete() || !temp.renameTo(file)) {
+			NCUtil.getLogger().warn("Could not replace radiation region file: " + file);
+			return;
+		}
+		region.saveTime = saveTime;
+	}
+	
+	/**
+	 * The chunk positions with entries in a 32x32 chunk region, the number of its chunks which are loaded, and the world time at which its file was last written.
+	 */
+	protected static class Region {
+		
+		protected final long key;
+		protected final LongSet positions = new LongOpenHashSet();
+		protected int loadedChunks = 0;
+		protected long saveTime = Long.MIN_VALUE;
+		
+		protected Region(long key) {
+			this.key = key;
+		}
+	}
+}
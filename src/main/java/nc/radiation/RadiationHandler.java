@@ -1,23 +1,23 @@
 package nc.radiation;
 
-import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import nc.ModCheck;
 import nc.capability.radiation.entity.IEntityRads;
-import nc.capability.radiation.source.IRadiationSource;
+import nc.capability.radiation.source.ChunkRadiationSource;
 import nc.entity.EntityFeralGhoul;
 import nc.init.NCSounds;
 import nc.network.radiation.PlayerRadsUpdatePacket;
+import nc.radiation.RadBlockEffects.*;
 import nc.recipe.*;
 import nc.tile.radiation.ITileRadiationEnvironment;
 import nc.util.*;
 import net.darkhax.gamestages.GameStageHelper;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.util.RecipeItemHelper;
 import net.minecraft.entity.*;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.passive.EntityHorse;
 import net.minecraft.entity.player.*;
-import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.*;
@@ -25,7 +25,7 @@ import net.minecraft.util.text.*;
 import net.minecraft.world.*;
 import net.minecraft.world.biome.*;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.event.world.*;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
@@ -47,7 +47,10 @@ public class RadiationHandler {
 	public static boolean default_rad_immunity = false;
 	public static String[] rad_immunity_stages = new String[] {};
 	
-	public static final Lazy<BasicRecipeHandler> RADIATION_BLOCK_PURIFICATION = new Lazy<>(() -> NCRecipes.radiation_block_purification);
+	public static final Lazy<BlockEffectRecipeHandler> RADIATION_BLOCK_PURIFICATION = new Lazy<>(() -> NCRecipes.radiation_block_purification);
+	
+	protected final List<EntityLiving> fatalEntities = new ObjectArrayList<>();
+	protected final List<EntityLiving> ghoulEntities = new ObjectArrayList<>();
 	
 	@SubscribeEvent
 	public void updatePlayerRadiation(TickEvent.PlayerTickEvent event) {
@@ -107,9 +110,9 @@ public class RadiationHandler {
 			
 			double radiationLevel = RadiationHelper.transferRadsFromInventoryToPlayer(playerRads, player, radiation_player_tick_rate);
 			Chunk chunk = player.world.getChunk((int) Math.floor(player.posX) >> 4, (int) Math.floor(player.posZ) >> 4);
-			if (chunk.isLoaded()) {
-				IRadiationSource chunkSource = RadiationHelper.getRadiationSource(chunk);
-				radiationLevel += RadiationHelper.transferRadsToPlayer(chunkSource, playerRads, player, radiation_player_tick_rate);
+			if (chunk.isLoaded() && player.world instanceof WorldServer world) {
+				RadiationField field = RadiationField.get(world);
+				radiationLevel += RadiationHelper.transferRadsToPlayer(field.getRadiationLevel(field.getSlot(chunk)), playerRads, player, radiation_player_tick_rate);
 			}
 			
 			if (playerRads.getPoisonBuffer() > 0D) {
@@ -193,7 +196,12 @@ public class RadiationHandler {
 				playerRads.setRadXCooldown(playerRads.getRadXCooldown() - radiation_player_tick_rate);
 			}
 			
-			new PlayerRadsUpdatePacket(playerRads).sendTo(player);
+			int syncDirty = playerRads.getSyncDirty();
+			if (syncDirty != 0) {
+				new PlayerRadsUpdatePacket(playerRads, syncDirty).sendTo(player);
+				playerRads.clearSyncDirty();
+				RadiationProfiler.addCount(player.world, RadiationProfiler.Counter.PACKETS, 1);
+			}
 			
 			if (!player.isCreative() && !player.isSpectator() && !playerRads.isImmune()) {
 				RadiationHelper.applyEntityEffects(player, playerRads, 1D, RadPotionEffects.PLAYER_RAD_LEVEL_LIST, RadPotionEffects.PLAYER_RAD_EFFECT_LISTS, RadPotionEffects.PLAYER_RAD_ATTRIBUTE_MAP);
@@ -230,119 +238,57 @@ public class RadiationHandler {
 			return;
 		}
 		
-		ChunkProviderServer chunkProvider = world.getChunkProvider();
-		Collection<Chunk> chunks = chunkProvider.getLoadedChunks();
+		long worldStartTime = RadiationProfiler.time();
+		
+		RadiationChunkScheduler scheduler = RadiationChunkScheduler.get(world);
+		RadiationField field = RadiationField.get(world);
+		TileEmissionCache emissionCache = TileEmissionCache.get(world);
 		
-		if (chunks.isEmpty()) {
+		int chunkCount = scheduler.size();
+		if (chunkCount == 0) {
 			return;
 		}
 		
-		int chunkCount = chunks.size();
-		int chunkStart = RAND.nextInt(chunkCount);
 		int chunksPerTick = Math.min(radiation_world_chunks_per_tick, chunkCount);
 		double tickMult = Math.max(1D, (double) chunkCount / (double) chunksPerTick);
+		List<Chunk> chunks = scheduler.nextSlice(chunksPerTick);
 		
 		BiomeProvider biomeProvider = world.getBiomeProvider();
 		int dimension = world.provider.getDimension();
 		BlockPos randomOffsetPos = newRandomOffsetPos(world);
 		String randomStructure = ModCheck.cubicChunksLoaded() || RadStructures.STRUCTURE_LIST.isEmpty() ? null : RadStructures.STRUCTURE_LIST.get(RAND.nextInt(RadStructures.STRUCTURE_LIST.size()));
 		
-		CollectionHelper.forEachIndexed(chunks, (chunk, i) -> {
-			if ((i - chunkStart) % chunkCount >= chunksPerTick) {
-				return;
-			}
-			
+		for (int i = 0; i < chunksPerTick; ++i) {
+			Chunk chunk = chunks.get(i);
 			if (!chunk.isLoaded()) {
-				return;
+				continue;
 			}
 			
-			IRadiationSource chunkSource = RadiationHelper.getRadiationSource(chunk);
-			if (chunkSource == null) {
-				return;
-			}
-			
-			ClassInheritanceMultiMap<Entity>[] entityListArray = chunk.getEntityLists();
-			for (ClassInheritanceMultiMap<Entity> entities : entityListArray) {
-				Entity[] entityArray = entities.toArray(new Entity[0]);
-				for (Entity entity : entityArray) {
-					if (entity instanceof EntityPlayer) {
-						RadiationHelper.transferRadsFromInventoryToChunkBuffer(((EntityPlayer) entity).inventory, chunkSource);
-					}
-					else if (radiation_dropped_items && entity instanceof EntityItem) {
-						RadiationHelper.transferRadiationFromStackToChunkBuffer(((EntityItem) entity).getItem(), chunkSource, 1D);
-					}
-					else if (entity instanceof EntityLiving entityLiving) {
-						IEntityRads entityRads = RadiationHelper.getEntityRadiation(entityLiving);
-						if (entityRads == null) {
-							continue;
-						}
-						
-						entityRads.setExternalRadiationResistance(RadiationHelper.getEntityArmorRadResistance(entityLiving));
-						
-						if (radiation_entity_decay_rate > 0D) {
-							entityRads.setTotalRads(entityRads.getTotalRads() * Math.pow(1D - radiation_entity_decay_rate, tickMult), false);
-						}
-						
-						RadiationHelper.transferRadsFromSourceToEntity(chunkSource, entityRads, entityLiving, tickMult);
-						
-						if (entityRads.getPoisonBuffer() > 0D) {
-							double poisonRads = Math.min(entityRads.getPoisonBuffer(), entityRads.getRecentPoisonAddition() * tickMult / radiation_poison_time);
-							entityRads.setTotalRads(entityRads.getTotalRads() + poisonRads, false);
-							entityRads.setPoisonBuffer(entityRads.getPoisonBuffer() - poisonRads);
-							if (entityRads.getPoisonBuffer() == 0D) {
-								entityRads.resetRecentPoisonAddition();
-							}
-						}
-						else {
-							entityRads.resetRecentPoisonAddition();
-						}
-						
-						if (entityLiving instanceof IMob) {
-							if (radiation_mob_rads_fatal && entityRads.isFatal()) {
-								entityLiving.attackEntityFrom(DamageSources.FATAL_RADS, Float.MAX_VALUE);
-							}
-							else {
-								RadiationHelper.applyEntityEffects(entityLiving, entityRads, tickMult, RadPotionEffects.MOB_RAD_LEVEL_LIST, RadPotionEffects.MOB_RAD_EFFECT_LISTS, RadPotionEffects.MOB_RAD_ATTRIBUTE_MAP);
-							}
-						}
-						else {
-							if (entityRads.isFatal()) {
-								if (register_entity[0] && entityLiving instanceof INpc) {
-									spawnFeralGhoul(world, entityLiving);
-								}
-								else if (radiation_passive_rads_fatal) {
-									entityLiving.attackEntityFrom(DamageSources.FATAL_RADS, Float.MAX_VALUE);
-								}
-							}
-							else {
-								RadiationHelper.applyEntityEffects(entityLiving, entityRads, tickMult, RadPotionEffects.ENTITY_RAD_LEVEL_LIST, RadPotionEffects.ENTITY_RAD_EFFECT_LISTS, RadPotionEffects.ENTITY_RAD_ATTRIBUTE_MAP);
-							}
-						}
-						entityRads.setRadiationLevel(entityRads.getRadiationLevel() * Math.pow(1D - radiation_decay_rate, tickMult));
-					}
-				}
-			}
+			int slot = field.getOrCreateSlot(chunk);
+			RadiationProfiler.addCount(world, RadiationProfiler.Counter.CHUNKS, 1);
 			
-			chunkSource.setScrubbingFraction(0D);
-			chunkSource.setEffectiveScrubberCount(0D);
+			long startTime = RadiationProfiler.time();
+			updateEntityRadiation(world, chunk, field, slot, tickMult);
+			RadiationProfiler.addTime(world, RadiationProfiler.Phase.ENTITY_SWEEP, startTime);
 			
-			Collection<TileEntity> tiles = chunk.getTileEntityMap().values();
+			field.setScrubbingFraction(slot, 0D);
+			field.setEffectiveScrubberCount(slot, 0D);
 			
 			if (radiation_tile_entities) {
-				for (TileEntity tile : tiles) {
-					RadiationHelper.transferRadiationFromProviderToChunkBuffer(tile, tile_side, chunkSource);
-				}
+				startTime = RadiationProfiler.time();
+				field.addToRadiationBuffer(slot, emissionCache.getChunkRadiation(chunk, tile_side));
+				RadiationProfiler.addTime(world, RadiationProfiler.Phase.TILE_EMISSION, startTime);
 			}
 			
 			if (RadWorlds.RAD_MAP.containsKey(dimension)) {
-				RadiationHelper.addToSourceBuffer(chunkSource, RadWorlds.RAD_MAP.get(dimension));
+				field.addToRadiationBuffer(slot, RadWorlds.RAD_MAP.get(dimension));
 			}
 			
 			Biome biome = LambdaHelper.getThrowingOrDefault(() -> chunk.getBiome(randomOffsetPos, biomeProvider), null);
 			if (biome != null && !RadBiomes.DIM_BLACKLIST.contains(dimension)) {
 				Double biomeRadiation = RadBiomes.RAD_MAP.get(biome);
 				if (biomeRadiation != null) {
-					RadiationHelper.addToSourceBuffer(chunkSource, biomeRadiation);
+					field.addToRadiationBuffer(slot, biomeRadiation);
 				}
 			}
 			
@@ -350,37 +296,38 @@ public class RadiationHandler {
 			if (randomStructure != null && StructureHelper.CACHE.isInStructure(world, randomStructure, randomChunkPos)) {
 				Double structureRadiation = RadStructures.RAD_MAP.get(randomStructure);
 				if (structureRadiation != null) {
-					RadiationHelper.addToSourceBuffer(chunkSource, structureRadiation);
+					field.addToRadiationBuffer(slot, structureRadiation);
 				}
 			}
 			
-			if (radiation_check_blocks && i == chunkStart) {
+			if (radiation_check_blocks && i == 0) {
 				int packed = RecipeItemHelper.pack(StackHelper.blockStateToStack(world.getBlockState(randomChunkPos)));
 				if (RadSources.STACK_MAP.containsKey(packed)) {
-					RadiationHelper.addToSourceBuffer(chunkSource, RadSources.STACK_MAP.get(packed));
+					field.addToRadiationBuffer(slot, RadSources.STACK_MAP.get(packed));
 				}
 			}
 			
-			double currentLevel = chunkSource.getRadiationLevel(), currentBuffer = chunkSource.getRadiationBuffer();
-			for (TileEntity tile : tiles) {
+			double currentLevel = field.getRadiationLevel(slot), currentBuffer = field.getRadiationBuffer(slot);
+			for (TileEntity tile : chunk.getTileEntityMap().values()) {
 				if (tile instanceof ITileRadiationEnvironment tileRadiationEnvironment) {
 					tileRadiationEnvironment.setCurrentChunkRadiationLevel(currentLevel);
 					tileRadiationEnvironment.setCurrentChunkRadiationBuffer(currentBuffer);
-					RadiationHelper.addScrubbingFractionToChunk(RadiationHelper.getRadiationSource(chunk), tileRadiationEnvironment);
+					RadiationHelper.addScrubbingFractionToChunk(field, slot, tileRadiationEnvironment);
 				}
 			}
 			
 			if (radiation_scrubber_non_linear) {
-				double scrubbers = chunkSource.getEffectiveScrubberCount();
+				double scrubbers = field.getEffectiveScrubberCount(slot);
 				double scrubbingFraction = RadiationHelper.getAltScrubbingFraction(scrubbers);
 				
-				RadiationHelper.addToSourceBuffer(chunkSource, -scrubbingFraction * chunkSource.getRadiationBuffer());
-				chunkSource.setScrubbingFraction(scrubbingFraction);
+				field.addToRadiationBuffer(slot, -scrubbingFraction * field.getRadiationBuffer(slot));
+				field.setScrubbingFraction(slot, scrubbingFraction);
 			}
 			
-			double changeRate = chunkSource.getRadiationLevel() < chunkSource.getRadiationBuffer() ? radiation_spread_rate : radiation_decay_rate * (1D - chunkSource.getScrubbingFraction()) + radiation_spread_rate * chunkSource.getScrubbingFraction();
+			double level = field.getRadiationLevel(slot), buffer = field.getRadiationBuffer(slot), fraction = field.getScrubbingFraction(slot);
+			double changeRate = level < buffer ? radiation_spread_rate : radiation_decay_rate * (1D - fraction) + radiation_spread_rate * fraction;
 			
-			double newLevel = Math.max(0D, chunkSource.getRadiationLevel() + (chunkSource.getRadiationBuffer() - chunkSource.getRadiationLevel()) * changeRate);
+			double newLevel = Math.max(0D, level + (buffer - level) * changeRate);
 			if (radiation_chunk_limit >= 0D) {
 				newLevel = Math.min(newLevel, radiation_chunk_limit);
 			}
@@ -391,41 +338,155 @@ public class RadiationHandler {
 				newLevel = Math.min(newLevel, RadWorlds.LIMIT_MAP.get(dimension));
 			}
 			
-			chunkSource.setRadiationLevel(newLevel);
+			field.setRadiationLevel(slot, newLevel);
 			
+			startTime = RadiationProfiler.time();
 			mutateTerrain(world, chunk, newLevel);
-		});
+			RadiationProfiler.addTime(world, RadiationProfiler.Phase.TERRAIN_MUTATION, startTime);
+		}
 		
-		CollectionHelper.forEachIndexed(chunks, (chunk, i) -> {
-			if ((i - chunkStart) % chunkCount >= chunksPerTick) {
-				return;
+		long spreadStartTime = RadiationProfiler.time();
+		RadiationDiffusion.INSTANCE.spread(world, field, scheduler, chunks);
+		RadiationProfiler.addTime(world, RadiationProfiler.Phase.SPREAD, spreadStartTime);
+		
+		tile_side = EnumFacing.byIndex(tile_side.getIndex() + 1);
+		
+		RadiationProfiler.addTime(world, RadiationProfiler.Phase.WORLD_TICK, worldStartTime);
+	}
+	
+	/**
+	 * Iterates the chunk's type-filtered entity lists in place rather than copying them. Fatal damage and feral ghoul conversion can add entities to the chunk, so they are deferred until iteration has finished.
+	 */
+	protected void updateEntityRadiation(WorldServer world, Chunk chunk, RadiationField field, int slot, double tickMult) {
+		double chunkRadiation = field.getRadiationLevel(slot);
+		
+		for (ClassInheritanceMultiMap<Entity> entities : chunk.getEntityLists()) {
+			if (RadiationProfiler.isEnabled()) {
+				RadiationProfiler.addCount(world, RadiationProfiler.Counter.ENTITIES, entities.size());
+			}
+			
+			if (radiation_hardcore_stacks) {
+				for (EntityPlayer player : entities.getByClass(EntityPlayer.class)) {
+					field.addToRadiationBuffer(slot, RadiationHelper.getRadiationFromInventory(player.inventory));
+				}
 			}
 			
-			RadiationHelper.spreadRadiationFromChunk(chunk, getRandomAdjacentChunk(chunkProvider, chunk));
-		});
+			if (radiation_dropped_items) {
+				for (EntityItem item : entities.getByClass(EntityItem.class)) {
+					field.addToRadiationBuffer(slot, RadiationHelper.getRadiationFromStack(item.getItem(), 1D));
+				}
+			}
+			
+			for (EntityLiving entityLiving : entities.getByClass(EntityLiving.class)) {
+				IEntityRads entityRads = RadiationHelper.getEntityRadiation(entityLiving);
+				if (entityRads == null) {
+					continue;
+				}
+				
+				if (entityRads.getExternalRadiationResistanceDirty() || (radiation_horse_armor_public && entityLiving instanceof EntityHorse)) {
+					entityRads.setExternalRadiationResistance(RadiationHelper.getEntityArmorRadResistance(entityLiving));
+					entityRads.setExternalRadiationResistanceDirty(false);
+				}
+				
+				if (radiation_entity_decay_rate > 0D) {
+					entityRads.setTotalRads(entityRads.getTotalRads() * Math.pow(1D - radiation_entity_decay_rate, tickMult), false);
+				}
+				
+				RadiationHelper.transferRadsToEntity(chunkRadiation, entityRads, entityLiving, tickMult);
+				
+				if (entityRads.getPoisonBuffer() > 0D) {
+					double poisonRads = Math.min(entityRads.getPoisonBuffer(), entityRads.getRecentPoisonAddition() * tickMult / radiation_poison_time);
+					entityRads.setTotalRads(entityRads.getTotalRads() + poisonRads, false);
+					entityRads.setPoisonBuffer(entityRads.getPoisonBuffer() - poisonRads);
+					if (entityRads.getPoisonBuffer() == 0D) {
+						entityRads.resetRecentPoisonAddition();
+					}
+				}
+				else {
+					entityRads.resetRecentPoisonAddition();
+				}
+				
+				if (entityLiving instanceof IMob) {
+					if (radiation_mob_rads_fatal && entityRads.isFatal()) {
+						fatalEntities.add(entityLiving);
+					}
+					else {
+						RadiationHelper.applyEntityEffects(entityLiving, entityRads, tickMult, RadPotionEffects.MOB_RAD_LEVEL_LIST, RadPotionEffects.MOB_RAD_EFFECT_LISTS, RadPotionEffects.MOB_RAD_ATTRIBUTE_MAP);
+					}
+				}
+				else {
+					if (entityRads.isFatal()) {
+						if (register_entity[0] && entityLiving instanceof INpc) {
+							ghoulEntities.add(entityLiving);
+						}
+						else if (radiation_passive_rads_fatal) {
+							fatalEntities.add(entityLiving);
+						}
+					}
+					else {
+						RadiationHelper.applyEntityEffects(entityLiving, entityRads, tickMult, RadPotionEffects.ENTITY_RAD_LEVEL_LIST, RadPotionEffects.ENTITY_RAD_EFFECT_LISTS, RadPotionEffects.ENTITY_RAD_ATTRIBUTE_MAP);
+					}
+				}
+				entityRads.setRadiationLevel(entityRads.getRadiationLevel() * Math.pow(1D - radiation_decay_rate, tickMult));
+			}
+		}
 		
-		tile_side = EnumFacing.byIndex(tile_side.getIndex() + 1);
+		for (EntityLiving entityLiving : fatalEntities) {
+			entityLiving.attackEntityFrom(DamageSources.FATAL_RADS, Float.MAX_VALUE);
+		}
+		fatalEntities.clear();
+		
+		for (EntityLiving entityLiving : ghoulEntities) {
+			spawnFeralGhoul(world, entityLiving);
+		}
+		ghoulEntities.clear();
+	}
+	
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		if (event.getWorld() instanceof WorldServer world) {
+			RadiationChunkScheduler.onChunkLoad(world, event.getChunk());
+			RadiationField field = RadiationField.get(world);
+			field.onChunkLoad(event.getChunk());
+			if (RadiationHelper.getRadiationSource(event.getChunk()) instanceof ChunkRadiationSource chunkSource) {
+				chunkSource.onChunkLoad(field);
+			}
+		}
 	}
 	
-	public static final List<int[]> ADJACENT_COORDS = Lists.newArrayList(new int[] {1, 0}, new int[] {0, 1}, new int[] {-1, 0}, new int[] {0, -1});
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		if (event.getWorld() instanceof WorldServer world) {
+			RadiationChunkScheduler.onChunkUnload(world, event.getChunk());
+			RadiationField field = RadiationField.getIfPresent(world);
+			if (field != null) {
+				field.onChunkUnload(event.getChunk());
+			}
+			TileEmissionCache.onChunkUnload(world, event.getChunk());
+		}
+	}
 	
-	public static Chunk getRandomAdjacentChunk(ChunkProviderServer chunkProvider, Chunk chunk) {
-		if (chunkProvider == null || chunk == null || !chunk.isLoaded()) {
-			return null;
+	@SubscribeEvent
+	public void evictRadiationRegions(TickEvent.WorldTickEvent event) {
+		if (event.phase == TickEvent.Phase.END && event.side == Side.SERVER && event.world instanceof WorldServer world) {
+			RadiationField.onWorldTickEnd(world);
 		}
-		ChunkPos chunkPos = chunk.getPos();
-		int x = chunkPos.x;
-		int z = chunkPos.z;
-		Collections.shuffle(ADJACENT_COORDS);
-		for (int[] pos : ADJACENT_COORDS) {
-			if (chunkProvider.chunkExists(x + pos[0], z + pos[1])) {
-				Chunk adjChunk = chunkProvider.getLoadedChunk(x + pos[0], z + pos[1]);
-				if (adjChunk != null) {
-					return adjChunk;
-				}
-			}
+	}
+	
+	@SubscribeEvent
+	public void onWorldSave(WorldEvent.Save event) {
+		if (event.getWorld() instanceof WorldServer world) {
+			RadiationField.onWorldSave(world);
+		}
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (event.getWorld() instanceof WorldServer world) {
+			RadiationChunkScheduler.onWorldUnload(world);
+			RadiationField.onWorldUnload(world);
+			TileEmissionCache.onWorldUnload(world);
 		}
-		return null;
 	}
 	
 	public static BlockPos newRandomOffsetPos(World world) {
@@ -437,24 +498,15 @@ public class RadiationHandler {
 	}
 	
 	public static void mutateTerrain(World world, Chunk chunk, double radiation) {
+		BlockEffectRecipeHandler handler = RADIATION_BLOCK_PURIFICATION.get();
+		
 		long j = Math.min(radiation_block_effect_max_rate, (long) Math.log(Math.E - 1D + radiation / RecipeStats.getBlockMutationThreshold()));
 		while (j > 0) {
 			--j;
 			BlockPos randomChunkPos = newRandomPosInChunk(world, chunk);
-			IBlockState state = world.getBlockState(randomChunkPos);
-			
-			ItemStack stack = StackHelper.blockStateToStack(state);
-			if (stack != null && !stack.isEmpty()) {
-				RecipeInfo<BasicRecipe> mutationInfo = RADIATION_BLOCK_PURIFICATION.get().getRecipeInfoFromInputs(Lists.newArrayList(stack), new ArrayList<>());
-				if (mutationInfo != null && radiation >= mutationInfo.recipe.getBlockMutationThreshold()) {
-					ItemStack output = RecipeHelper.getItemStackFromIngredientList(mutationInfo.recipe.getItemProducts(), 0);
-					if (output != null) {
-						IBlockState result = StackHelper.getBlockStateFromStack(output);
-						if (result != null) {
-							world.setBlockState(randomChunkPos, result);
-						}
-					}
-				}
+			BlockEffect effect = handler.getBlockEffect(world.getBlockState(randomChunkPos));
+			if (effect != null && radiation >= effect.threshold) {
+				world.setBlockState(randomChunkPos, effect.result);
 			}
 		}
 		
@@ -462,19 +514,9 @@ public class RadiationHandler {
 		while (j > 0) {
 			--j;
 			BlockPos randomChunkPos = newRandomPosInChunk(world, chunk);
-			IBlockState state = world.getBlockState(randomChunkPos);
-			ItemStack stack = StackHelper.blockStateToStack(state);
-			if (stack != null && !stack.isEmpty()) {
-				RecipeInfo<BasicRecipe> mutationInfo = RADIATION_BLOCK_PURIFICATION.get().getRecipeInfoFromInputs(Lists.newArrayList(stack), new ArrayList<>());
-				if (mutationInfo != null && radiation < mutationInfo.recipe.getBlockMutationThreshold()) {
-					ItemStack output = RecipeHelper.getItemStackFromIngredientList(mutationInfo.recipe.getItemProducts(), 0);
-					if (output != null) {
-						IBlockState result = StackHelper.getBlockStateFromStack(output);
-						if (result != null) {
-							world.setBlockState(randomChunkPos, result);
-						}
-					}
-				}
+			BlockEffect effect = handler.getBlockEffect(world.getBlockState(randomChunkPos));
+			if (effect != null && radiation < effect.threshold) {
+				world.setBlockState(randomChunkPos, effect.result);
 			}
 		}
 	}
@@ -23,7 +23,6 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.text.TextFormatting;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.*;
@@ -94,21 +93,18 @@ public class RadiationHelper {
 	
 	// ITileRadiationEnvironment -> ChunkBuffer
 	
-	public static void addScrubbingFractionToChunk(IRadiationSource chunkSource, ITileRadiationEnvironment tile) {
-		if (chunkSource == null) {
-			return;
-		}
+	public static void addScrubbingFractionToChunk(RadiationField field, int slot, ITileRadiationEnvironment tile) {
 		if (radiation_scrubber_non_linear) {
 			if (tile.getRadiationContributionFraction() < 0D) {
-				chunkSource.setEffectiveScrubberCount(chunkSource.getEffectiveScrubberCount() - tile.getRadiationContributionFraction());
+				field.setEffectiveScrubberCount(slot, field.getEffectiveScrubberCount(slot) - tile.getRadiationContributionFraction());
 			}
 		}
 		else {
-			addToSourceBuffer(chunkSource, tile.getRadiationContributionFraction() * tile.getCurrentChunkRadiationBuffer());
+			field.addToRadiationBuffer(slot, tile.getRadiationContributionFraction() * tile.getCurrentChunkRadiationBuffer());
 			
 			if (tile.getRadiationContributionFraction() < 0D) {
-				chunkSource.setScrubbingFraction(chunkSource.getScrubbingFraction() - tile.getRadiationContributionFraction());
-				chunkSource.setEffectiveScrubberCount(chunkSource.getEffectiveScrubberCount() - tile.getRadiationContributionFraction());
+				field.setScrubbingFraction(slot, field.getScrubbingFraction(slot) - tile.getRadiationContributionFraction());
+				field.setEffectiveScrubberCount(slot, field.getEffectiveScrubberCount(slot) - tile.getRadiationContributionFraction());
 			}
 		}
 	}
@@ -149,35 +145,24 @@ public class RadiationHelper {
 		if (chunkSource == null) {
 			return;
 		}
-		
-		double rawRadiation = 0D;
+		addToSourceBuffer(chunkSource, getRadiationFromProvider(provider, side));
+	}
+	
+	public static double getRadiationFromProvider(ICapabilityProvider provider, EnumFacing side) {
+		return getRadiationFromProvider(provider, getContainerRadiationFromProvider(provider, side));
+	}
+	
+	/**
+	 * Combines the given container radiation with the provider's own source and resistance, which are cheap to read and may change every tick.
+	 */
+	public static double getRadiationFromProvider(ICapabilityProvider provider, double containerRadiation) {
+		double rawRadiation = containerRadiation;
 		if (ModCheck.ic2Loaded()) {
 			if (provider instanceof IReactor) {
 				rawRadiation += ((IReactor) provider).getReactorEUEnergyOutput() * radiation_ic2_reactor_mult;
 			}
 		}
 		
-		if (radiation_hardcore_containers > 0D) {
-			IItemHandler inventory = getTileInventory(provider, side);
-			if (inventory != null) {
-				for (int i = 0; i < inventory.getSlots(); ++i) {
-					ItemStack stack = inventory.getStackInSlot(i);
-					rawRadiation += getRadiationFromStack(stack, radiation_hardcore_containers);
-				}
-			}
-			
-			IFluidHandler tanks = getTileTanks(provider, side);
-			if (tanks != null) {
-				IFluidTankProperties[] props = tanks.getTankProperties();
-				if (props != null) {
-					for (IFluidTankProperties prop : props) {
-						FluidStack stack = prop.getContents();
-						rawRadiation += getRadiationFromFluid(stack, radiation_hardcore_containers);
-					}
-				}
-			}
-		}
-		
 		IRadiationSource radiationSource = getRadiationSource(provider);
 		if (radiationSource != null) {
 			rawRadiation += radiationSource.getRadiationLevel();
@@ -189,56 +174,69 @@ public class RadiationHelper {
 			resistance = providerResistance.getTotalRadResistance();
 		}
 		
-		double radiation = rawRadiation <= 0D ? 0D : NCMath.sq(rawRadiation) / (rawRadiation + resistance);
-		addToSourceBuffer(chunkSource, radiation);
+		return rawRadiation <= 0D ? 0D : NCMath.sq(rawRadiation) / (rawRadiation + resistance);
+	}
+	
+	/**
+	 * Radiation from the stacks and fluids held by the provider, if hardcore containers are enabled.
+	 */
+	public static double getContainerRadiationFromProvider(ICapabilityProvider provider, EnumFacing side) {
+		if (radiation_hardcore_containers <= 0D) {
+			return 0D;
+		}
+		
+		double rawRadiation = 0D;
+		IItemHandler inventory = getTileInventory(provider, side);
+		if (inventory != null) {
+			for (int i = 0; i < inventory.getSlots(); ++i) {
+				ItemStack stack = inventory.getStackInSlot(i);
+				rawRadiation += getRadiationFromStack(stack, radiation_hardcore_containers);
+			}
+		}
+		
+		IFluidHandler tanks = getTileTanks(provider, side);
+		if (tanks != null) {
+			IFluidTankProperties[] props = tanks.getTankProperties();
+			if (props != null) {
+				for (IFluidTankProperties prop : props) {
+					FluidStack stack = prop.getContents();
+					rawRadiation += getRadiationFromFluid(stack, radiation_hardcore_containers);
+				}
+			}
+		}
+		return rawRadiation;
 	}
 	
 	// Inventory -> ChunkBuffer
 	
 	public static void transferRadsFromInventoryToChunkBuffer(InventoryPlayer inventory, IRadiationSource chunkSource) {
-		if (!radiation_hardcore_stacks) {
+		if (chunkSource == null) {
 			return;
 		}
+		addToSourceBuffer(chunkSource, getRadiationFromInventory(inventory));
+	}
+	
+	public static double getRadiationFromInventory(InventoryPlayer inventory) {
+		if (!radiation_hardcore_stacks) {
+			return 0D;
+		}
+		double radiation = 0D;
 		for (ItemStack stack : inventory.mainInventory) {
 			if (!stack.isEmpty()) {
-				transferRadiationFromProviderToChunkBuffer(stack, null, chunkSource);
+				radiation += getRadiationFromProvider(stack, null);
 			}
 		}
 		for (ItemStack stack : inventory.armorInventory) {
 			if (!stack.isEmpty()) {
-				transferRadiationFromProviderToChunkBuffer(stack, null, chunkSource);
+				radiation += getRadiationFromProvider(stack, null);
 			}
 		}
 		for (ItemStack stack : inventory.offHandInventory) {
 			if (!stack.isEmpty()) {
-				transferRadiationFromProviderToChunkBuffer(stack, null, chunkSource);
-			}
-		}
-	}
-	
-	// Chunk Set Previous Radiation and Spread
-	
-	public static void spreadRadiationFromChunk(Chunk chunk, Chunk targetChunk) {
-		if (chunk != null && chunk.isLoaded()) {
-			IRadiationSource chunkSource = getRadiationSource(chunk);
-			if (chunkSource == null) {
-				return;
-			}
-			
-			if (targetChunk != null && targetChunk.isLoaded()) {
-				IRadiationSource targetChunkSource = getRadiationSource(targetChunk);
-				if (targetChunkSource != null && !chunkSource.isRadiationNegligible() && (targetChunkSource.getRadiationLevel() == 0D || chunkSource.getRadiationLevel() / targetChunkSource.getRadiationLevel() > 1D + radiation_spread_gradient)) {
-					double radiationSpread = (chunkSource.getRadiationLevel() - targetChunkSource.getRadiationLevel()) * radiation_spread_rate;
-					chunkSource.setRadiationLevel(chunkSource.getRadiationLevel() - radiationSpread);
-					targetChunkSource.setRadiationLevel(targetChunkSource.getRadiationLevel() + radiationSpread * (1D - targetChunkSource.getScrubbingFraction()));
-				}
-			}
-			
-			chunkSource.setRadiationBuffer(0D);
-			if (chunkSource.isRadiationNegligible()) {
-				chunkSource.setRadiationLevel(0D);
+				radiation += getRadiationFromProvider(stack, null);
 			}
 		}
+		return radiation;
 	}
 	
 	// Player Radiation Resistance
@@ -311,10 +309,7 @@ public class RadiationHelper {
 	
 	private static double getHorseArmorRadResistance(EntityHorse horse) {
 		double resistance = 0D;
-		NBTTagCompound compound = new NBTTagCompound();
-		horse.writeEntityToNBT(compound);
-		
-		ItemStack armor = new ItemStack(compound.getCompoundTag("ArmorItem"));
+		ItemStack armor = horse.horseChest.getStackInSlot(1);
 		if (ArmorHelper.isHorseArmor(armor.getItem())) {
 			resistance += getArmorRadResistance(armor);
 		}
@@ -358,7 +353,11 @@ public class RadiationHelper {
 		if (source == null) {
 			return 0D;
 		}
-		return addRadsToEntity(playerRads, player, source.getRadiationLevel(), false, false, updateRate);
+		return transferRadsToPlayer(source.getRadiationLevel(), playerRads, player, updateRate);
+	}
+	
+	public static double transferRadsToPlayer(double radiationLevel, IEntityRads playerRads, EntityPlayer player, double updateRate) {
+		return addRadsToEntity(playerRads, player, radiationLevel, false, false, updateRate);
 	}
 	
 	// Biome -> Player
@@ -377,7 +376,11 @@ public class RadiationHelper {
 		if (source == null) {
 			return;
 		}
-		entityRads.setRadiationLevel(addRadsToEntity(entityRads, entity, source.getRadiationLevel(), false, false, updateRate));
+		transferRadsToEntity(source.getRadiationLevel(), entityRads, entity, updateRate);
+	}
+	
+	public static void transferRadsToEntity(double radiationLevel, IEntityRads entityRads, EntityLivingBase entity, double updateRate) {
+		entityRads.setRadiationLevel(addRadsToEntity(entityRads, entity, radiationLevel, false, false, updateRate));
 	}
 	
 	// Biome -> Entity
@@ -0,0 +1,190 @@
+package nc.radiation;
+
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import nc.util.NCUtil;
+import net.minecraft.world.World;
+
+import java.util.*;
+
+/**
+ * Optional instrumentation of the radiation subsystem. While enabled, per-tick phase times and counters are recorded for each dimension into a rolling window, from which percentiles can be reported. While disabled, every hook is a single boolean check.
+ */
+public class RadiationProfiler {
+	
+	public static final int WINDOW = 1200;
+	
+	public enum Phase {
+		ENTITY_SWEEP("entity_sweep"),
+		TILE_EMISSION("tile_emission"),
+		TERRAIN_MUTATION("terrain_mutation"),
+		SPREAD("spread"),
+		WORLD_TICK("world_tick"),
+		ENVIRONMENT("environment"),
+		SCRUBBER_CHECK("scrubber_check");
+		
+		public final String name;
+		
+		Phase(String name) {
+			this.name = name;
+		}
+	}
+	
+	public enum Counter {
+		CHUNKS("chunks"),
+		ENTITIES("entities"),
+		PACKETS("packets");
+		
+		public final String name;
+		
+		Counter(String name) {
+			this.name = name;
+		}
+	}
+	
+	private static final Phase[] PHASES = Phase.values();
+	private static final Counter[] COUNTERS = Counter.values();
+	
+	private static final Int2ObjectMap<DimensionProfile> PROFILE_MAP = new Int2ObjectOpenHashMap<>();
+	
+	private static boolean enabled = false;
+	
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	public static void start() {
+		PROFILE_MAP.clear();
+		enabled = true;
+	}
+	
+	public static void stop() {
+		enabled = false;
+	}
+	
+	public static void reset() {
+		PROFILE_MAP.clear();
+	}
+	
+	/**
+	 * Returns the current time for a later {@link #addTime}, or zero without reading the clock if the profiler is disabled.
+	 */
+	public static long time() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+	
+	public static void addTime(World world, Phase phase, long startTime) {
+		if (enabled) {
+			getProfile(world).timeTotals[phase.ordinal()] += System.nanoTime() - startTime;
+		}
+	}
+	
+	public static void addCount(World world, Counter counter, int count) {
+		if (enabled) {
+			getProfile(world).countTotals[counter.ordinal()] += count;
+		}
+	}
+	
+	private static DimensionProfile getProfile(World world) {
+		int dimension = world.provider.getDimension();
+		DimensionProfile profile = PROFILE_MAP.get(dimension);
+		if (profile == null) {
+			profile = new DimensionProfile();
+			PROFILE_MAP.put(dimension, profile);
+		}
+		profile.advance(world.getTotalWorldTime());
+		return profile;
+	}
+	
+	// Report
+	
+	public static List<String> getReport() {
+		List<String> report = new ObjectArrayList<>();
+		if (PROFILE_MAP.isEmpty()) {
+			report.add("No radiation profiling data recorded.");
+			return report;
+		}
+		
+		int[] dimensions = PROFILE_MAP.keySet().toIntArray();
+		Arrays.sort(dimensions);
+		for (int dimension : dimensions) {
+			DimensionProfile profile = PROFILE_MAP.get(dimension);
+			int samples = Math.min(profile.sampleCount, WINDOW);
+			report.add(String.format("Dimension %d: %d ticks sampled", dimension, samples));
+			if (samples == 0) {
+				continue;
+			}
+			
+			long[] sorted = new long[samples];
+			for (Phase phase : PHASES) {
+				System.arraycopy(profile.timeSamples[phase.ordinal()], 0, sorted, 0, samples);
+				Arrays.sort(sorted);
+				if (sorted[samples - 1] == 0L) {
+					continue;
+				}
+				report.add(String.format("  %s: mean %.1f us, p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us", phase.name, mean(sorted) / 1000D, percentile(sorted, 0.5D) / 1000D, percentile(sorted, 0.9D) / 1000D, percentile(sorted, 0.99D) / 1000D, sorted[samples - 1] / 1000D));
+			}
+			
+			for (Counter counter : COUNTERS) {
+				System.arraycopy(profile.countSamples[counter.ordinal()], 0, sorted, 0, samples);
+				Arrays.sort(sorted);
+				report.add(String.format("  %s: mean %.2f, p50 %d, p99 %d, max %d per tick", counter.name, mean(sorted), percentile(sorted, 0.5D), percentile(sorted, 0.99D), sorted[samples - 1]));
+			}
+		}
+		return report;
+	}
+	
+	public static void logReport() {
+		for (String line : getReport()) {
+			NCUtil.getLogger().info(line);
+		}
+	}
+	
+	private static double mean(long[] sorted) {
+		double sum = 0D;
+		for (long sample : sorted) {
+			sum += sample;
+		}
+		return sum / sorted.length;
+	}
+	
+	private static long percentile(long[] sorted, double fraction) {
+		return sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+	}
+	
+	/**
+	 * Totals are accumulated for the current tick, and moved into the rolling window when the first record for a later tick arrives.
+	 */
+	private static class DimensionProfile {
+		
+		private final long[][] timeSamples = new long[PHASES.length][WINDOW];
+		private final long[][] countSamples = new long[COUNTERS.length][WINDOW];
+		
+		private final long[] timeTotals = new long[PHASES.length];
+		private final long[] countTotals = new long[COUNTERS.length];
+		
+		private long currentTick = Long.MIN_VALUE;
+		private int sampleCount = 0;
+		
+		private void advance(long tick) {
+			if (tick == currentTick) {
+				return;
+			}
+			
+			if (currentTick != Long.MIN_VALUE) {
+				int index = sampleCount % WINDOW;
+				for (int i = 0; i < PHASES.length; ++i) {
+					timeSamples[i][index] = timeTotals[i];
+				}
+				for (int i = 0; i < COUNTERS.length; ++i) {
+					countSamples[i][index] = countTotals[i];
+				}
+				++sampleCount;
+			}
+			
+			Arrays.fill(timeTotals, 0L);
+			Arrays.fill(countTotals, 0L);
+			currentTick = tick;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package nc.radiation;
+
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+import net.minecraft.world.chunk.Chunk;
+
+import static nc.config.NCConfig.radiation_tile_emission_cache_visits;
+
+/**
+ * Per-dimension cache of the container radiation of tile entities, grouped by chunk. Each tile has a single entry, read through the unsided view of its contents where it has one. Entries are read again after a configured number of visits to their chunk, as not all changes to contents can be observed, and those of NuclearCraft tiles are also dropped when the tile marks itself dirty, so a chunk pass over idle storage only reads cached values however rarely each chunk is visited.
+ */
+public class TileEmissionCache {
+	
+	private static final Int2ObjectMap<TileEmissionCache> CACHE_MAP = new Int2ObjectOpenHashMap<>();
+	
+	protected final Long2ObjectMap<ChunkEmission> chunkMap = new Long2ObjectOpenHashMap<>();
+	
+	public static TileEmissionCache get(WorldServer world) {
+		int dimension = world.provider.getDimension();
+		TileEmissionCache cache = CACHE_MAP.get(dimension);
+		if (cache == null) {
+			cache = new TileEmissionCache();
+			CACHE_MAP.put(dimension, cache);
+		}
+		return cache;
+	}
+	
+	public static void onChunkUnload(WorldServer world, Chunk chunk) {
+		TileEmissionCache cache = CACHE_MAP.get(world.provider.getDimension());
+		if (cache != null) {
+			cache.chunkMap.remove(ChunkPos.asLong(chunk.x, chunk.z));
+		}
+	}
+	
+	public static void onWorldUnload(WorldServer world) {
+		CACHE_MAP.remove(world.provider.getDimension());
+	}
+	
+	/**
+	 * Should be called whenever the contents of the tile's inventory or tanks change.
+	 */
+	public static void invalidate(TileEntity tile) {
+		World world = tile.getWorld();
+		if (world == null || world.isRemote) {
+			return;
+		}
+		
+		TileEmissionCache cache = CACHE_MAP.get(world.provider.getDimension());
+		if (cache == null) {
+			return;
+		}
+		
+		BlockPos pos = tile.getPos();
+		ChunkEmission chunkEmission = cache.chunkMap.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+		if (chunkEmission != null) {
+			TileEmission emission = chunkEmission.tileMap.get(tile);
+			if (emission != null) {
+				emission.valid = false;
+			}
+		}
+	}
+	
+	/**
+	 * Sums the radiation emitted by all tile entities in the chunk, only re-reading the contents of those whose cached container radiation is missing or stale. The given side is only used for tiles with no unsided view of their contents.
+	 */
+	public double getChunkRadiation(Chunk chunk, EnumFacing side) {
+		if (radiation_tile_emission_cache_visits <= 0) {
+			double radiation = 0D;
+			for (TileEntity tile : chunk.getTileEntityMap().values()) {
+				radiation += RadiationHelper.getRadiationFromProvider(tile, side);
+			}
+			return radiation;
+		}
+		
+		long pos = ChunkPos.asLong(chunk.x, chunk.z);
+		ChunkEmission chunkEmission = chunkMap.get(pos);
+		if (chunkEmission == null) {
+			chunkEmission = new ChunkEmission();
+			chunkMap.put(pos, chunkEmission);
+		}
+		
+		int visit = ++chunkEmission.visitCount;
+		double radiation = 0D;
+		for (TileEntity tile : chunk.getTileEntityMap().values()) {
+			TileEmission emission = chunkEmission.tileMap.get(tile);
+			if (emission == null) {
+				emission = new TileEmission();
+				chunkEmission.tileMap.put(tile, emission);
+			}
+			
+			if (!emission.valid || visit - emission.readVisit >= radiation_tile_emission_cache_visits) {
+				emission.containerRadiation = getContainerRadiation(tile, side);
+				emission.readVisit = visit;
+				emission.valid = true;
+			}
+			emission.lastVisit = visit;
+			
+			radiation += RadiationHelper.getRadiationFromProvider(tile, emission.containerRadiation);
+		}
+		
+		if (chunkEmission.tileMap.size() > chunk.getTileEntityMap().size()) {
+			chunkEmission.tileMap.values().removeIf(x -> x.lastVisit != visit);
+		}
+		
+		return radiation;
+	}
+	
+	/**
+	 * Reads through the null side, which exposes all of the contents of NuclearCraft and vanilla tiles, falling back to the given side for tiles which only expose their contents on faces.
+	 */
+	protected static double getContainerRadiation(TileEntity tile, EnumFacing side) {
+		if (RadiationHelper.getTileInventory(tile, null) != null || RadiationHelper.getTileTanks(tile, null) != null) {
+			return RadiationHelper.getContainerRadiationFromProvider(tile, null);
+		}
+		return RadiationHelper.getContainerRadiationFromProvider(tile, side);
+	}
+	
+	protected static class ChunkEmission {
+		
+		protected final Reference2ObjectMap<TileEntity, TileEmission> tileMap = new Reference2ObjectOpenHashMap<>();
+		protected int visitCount = 0;
+	}
+	
+	protected static class TileEmission {
+		
+		protected double containerRadiation;
+		protected boolean valid = false;
+		protected int readVisit, lastVisit;
+	}
+}
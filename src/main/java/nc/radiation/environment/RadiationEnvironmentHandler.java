@@ -1,22 +1,25 @@
 package nc.radiation.environment;
 
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import nc.radiation.RadiationProfiler;
 import nc.tile.radiation.ITileRadiationEnvironment;
 import nc.util.FourPos;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
+import net.minecraftforge.event.world.*;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 
-import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.concurrent.*;
+import java.util.List;
 
 import static nc.config.NCConfig.*;
 
 public class RadiationEnvironmentHandler {
 	
-	private static final ConcurrentMap<FourPos, RadiationEnvironmentInfo> ENVIRONMENT = new ConcurrentHashMap<>();
-	private static final ConcurrentMap<FourPos, RadiationEnvironmentInfo> ENVIRONMENT_BACKUP = new ConcurrentHashMap<>();
+	private static final Int2ObjectMap<EnvironmentRegistry> REGISTRY_MAP = new Int2ObjectOpenHashMap<>();
 	
 	@SubscribeEvent
 	public void updateRadiationEnvironment(TickEvent.WorldTickEvent event) {
@@ -27,83 +30,168 @@ public class RadiationEnvironmentHandler {
 		if (event.phase != TickEvent.Phase.END || event.side == Side.CLIENT || !(event.world instanceof WorldServer world)) {
 			return;
 		}
-		int dim = world.provider.getDimension();
 		
-		int count = Math.min((1 + radiation_world_chunks_per_tick) / 2, ENVIRONMENT.size());
-		Iterator<Entry<FourPos, RadiationEnvironmentInfo>> environmentIter = ENVIRONMENT.entrySet().iterator();
-		Entry<FourPos, RadiationEnvironmentInfo> environmentEntry;
+		EnvironmentRegistry registry = REGISTRY_MAP.get(world.provider.getDimension());
+		if (registry == null) {
+			return;
+		}
 		
-		while (count > 0) {
-			--count;
-			
-			if (environmentIter.hasNext()) {
-				environmentEntry = environmentIter.next();
-			}
-			else {
-				break;
-			}
-			if (environmentEntry == null) {
-				break;
-			}
-			
-			FourPos pos = environmentEntry.getKey();
-			RadiationEnvironmentInfo info = environmentEntry.getValue();
-			
-			if (pos.getDimension() == dim) {
-				for (Entry<FourPos, ITileRadiationEnvironment> infoEntry : info.tileMap.entrySet()) {
-					infoEntry.getValue().handleRadiationEnvironmentInfo(info);
-				}
+		long startTime = RadiationProfiler.time();
+		
+		int count = Math.min((1 + radiation_world_chunks_per_tick) / 2, registry.size());
+		for (int i = 0; i < count; ++i) {
+			RadiationEnvironmentInfo info = registry.next();
+			for (ITileRadiationEnvironment tile : info.tileMap.values()) {
+				tile.handleRadiationEnvironmentInfo(info);
 			}
-			
-			ENVIRONMENT.remove(pos);
-			ENVIRONMENT_BACKUP.put(pos, info);
 		}
 		
-		if (ENVIRONMENT.isEmpty()) {
-			ENVIRONMENT.putAll(ENVIRONMENT_BACKUP);
-			ENVIRONMENT_BACKUP.clear();
+		RadiationProfiler.addTime(world, RadiationProfiler.Phase.ENVIRONMENT, startTime);
+	}
+	
+	@SubscribeEvent
+	public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+		if (!(event.getWorld() instanceof WorldServer world)) {
+			return;
+		}
+		
+		EnvironmentRegistry registry = REGISTRY_MAP.get(world.provider.getDimension());
+		if (registry == null) {
+			return;
+		}
+		
+		RadiationEnvironmentInfo info = registry.get(event.getPos().toLong());
+		if (info != null) {
+			for (ITileRadiationEnvironment tile : info.tileMap.values()) {
+				tile.handleRadiationEnvironmentBlockChange(info);
+			}
 		}
 	}
 	
-	public static void addTile(FourPos pos, ITileRadiationEnvironment tile) {
-		RadiationEnvironmentInfo newInfo = new RadiationEnvironmentInfo(pos, tile);
-		if (!ENVIRONMENT.containsKey(pos)) {
-			RadiationEnvironmentHandler.ENVIRONMENT.put(pos, newInfo);
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (event.getWorld() instanceof WorldServer world) {
+			REGISTRY_MAP.remove(world.provider.getDimension());
 		}
-		else {
-			RadiationEnvironmentHandler.ENVIRONMENT.get(pos).addToTileMap(tile);
+	}
+	
+	public static void addTile(FourPos pos, ITileRadiationEnvironment tile) {
+		int dimension = pos.getDimension();
+		EnvironmentRegistry registry = REGISTRY_MAP.get(dimension);
+		if (registry == null) {
+			registry = new EnvironmentRegistry();
+			REGISTRY_MAP.put(dimension, registry);
 		}
+		registry.add(pos, tile);
+	}
+	
+	public static RadiationEnvironmentInfo getInfo(int dimension, BlockPos pos) {
+		EnvironmentRegistry registry = REGISTRY_MAP.get(dimension);
+		return registry == null ? null : registry.get(pos.toLong());
 	}
 	
 	public static void removeTile(ITileRadiationEnvironment tile) {
-		Iterator<Entry<FourPos, RadiationEnvironmentInfo>> infoIterator = ENVIRONMENT.entrySet().iterator();
+		FourPos tilePos = tile.getFourPos();
+		EnvironmentRegistry registry = REGISTRY_MAP.get(tilePos.getDimension());
+		if (registry != null) {
+			registry.remove(tilePos);
+		}
+	}
+	
+	/**
+	 * Per-dimension environment registry. Infos are held in a ring indexed by packed block position, and each tile keeps the set of positions it registered at, so adding and removing a tile only touches its own positions.
+	 */
+	private static class EnvironmentRegistry {
+		
+		private final LongList posRing = new LongArrayList();
+		private final List<RadiationEnvironmentInfo> infoRing = new ObjectArrayList<>();
+		private final Long2IntMap indexMap = new Long2IntOpenHashMap();
+		
+		private final Long2ObjectMap<LongSet> tilePositionMap = new Long2ObjectOpenHashMap<>();
+		
+		private int cursor = 0;
 		
-		while (infoIterator.hasNext()) {
-			Entry<FourPos, RadiationEnvironmentInfo> infoEntry = infoIterator.next();
-			if (infoEntry == null || infoEntry.getKey() == null || infoEntry.getValue() == null) {
-				infoIterator.remove();
+		private EnvironmentRegistry() {
+			indexMap.defaultReturnValue(-1);
+		}
+		
+		private int size() {
+			return posRing.size();
+		}
+		
+		private RadiationEnvironmentInfo get(long key) {
+			int index = indexMap.get(key);
+			return index < 0 ? null : infoRing.get(index);
+		}
+		
+		private void add(FourPos pos, ITileRadiationEnvironment tile) {
+			long key = pos.getBlockPos().toLong();
+			int index = indexMap.get(key);
+			RadiationEnvironmentInfo info;
+			if (index < 0) {
+				info = new RadiationEnvironmentInfo(pos);
+				indexMap.put(key, posRing.size());
+				posRing.add(key);
+				infoRing.add(info);
 			}
-			else if (tile.getFourPos().getDimension() == infoEntry.getKey().getDimension()) {
-				infoEntry.getValue().tileMap.remove(tile.getFourPos());
-				if (infoEntry.getValue().tileMap.isEmpty()) {
-					infoIterator.remove();
-				}
+			else {
+				info = infoRing.get(index);
+			}
+			info.addToTileMap(tile);
+			
+			long tileKey = tile.getTilePos().toLong();
+			LongSet positions = tilePositionMap.get(tileKey);
+			if (positions == null) {
+				positions = new LongOpenHashSet();
+				tilePositionMap.put(tileKey, positions);
 			}
+			positions.add(key);
 		}
 		
-		Iterator<Entry<FourPos, RadiationEnvironmentInfo>> backupInfoIterator = ENVIRONMENT_BACKUP.entrySet().iterator();
-		
-		while (backupInfoIterator.hasNext()) {
-			Entry<FourPos, RadiationEnvironmentInfo> infoEntry = backupInfoIterator.next();
-			if (infoEntry == null || infoEntry.getKey() == null || infoEntry.getValue() == null) {
-				backupInfoIterator.remove();
+		private void remove(FourPos tilePos) {
+			LongSet positions = tilePositionMap.remove(tilePos.getBlockPos().toLong());
+			if (positions == null) {
+				return;
 			}
-			else if (tile.getFourPos().getDimension() == infoEntry.getKey().getDimension()) {
-				infoEntry.getValue().tileMap.remove(tile.getFourPos());
-				if (infoEntry.getValue().tileMap.isEmpty()) {
-					backupInfoIterator.remove();
+			
+			LongIterator iterator = positions.iterator();
+			while (iterator.hasNext()) {
+				long key = iterator.nextLong();
+				int index = indexMap.get(key);
+				if (index < 0) {
+					continue;
+				}
+				
+				RadiationEnvironmentInfo info = infoRing.get(index);
+				info.tileMap.remove(tilePos);
+				if (info.tileMap.isEmpty()) {
+					removeAt(key, index);
 				}
 			}
 		}
+		
+		private void removeAt(long key, int index) {
+			indexMap.remove(key);
+			int last = posRing.size() - 1;
+			if (index != last) {
+				long lastKey = posRing.getLong(last);
+				posRing.set(index, lastKey);
+				infoRing.set(index, infoRing.get(last));
+				indexMap.put(lastKey, index);
+			}
+			posRing.removeLong(last);
+			infoRing.remove(last);
+			
+			if (cursor > last) {
+				cursor = 0;
+			}
+		}
+		
+		private RadiationEnvironmentInfo next() {
+			if (cursor >= posRing.size()) {
+				cursor = 0;
+			}
+			return infoRing.get(cursor++);
+		}
 	}
 }
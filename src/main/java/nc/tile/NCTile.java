@@ -2,6 +2,7 @@ package nc.tile;
 
 import nc.block.tile.IDynamicState;
 import nc.capability.radiation.source.*;
+import nc.radiation.TileEmissionCache;
 import nc.util.NCMath;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -91,6 +92,7 @@ public abstract class NCTile extends TileEntity implements ITile {
 		if (world != null) {
 			getBlockMetadata();
 			world.markChunkDirty(pos, this);
+			TileEmissionCache.invalidate(this);
 		}
 	}
 	
@@ -2,7 +2,7 @@ package nc.tile.fission;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import nc.multiblock.fission.FissionCluster;
+import nc.multiblock.fission.*;
 import nc.tile.fission.IFissionFuelComponent.*;
 import nc.util.*;
 import net.minecraft.entity.player.*;
@@ -10,7 +10,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.world.World;
 
@@ -75,16 +74,21 @@ public interface IFissionComponent extends IFissionPart {
 		}
 		setCluster(cluster);
 		
+		final FissionReactorGrid grid = getMultiblock().getGrid();
+		final int index = grid.getIndex(getTilePos());
+		
 		for (EnumFacing dir : EnumFacing.VALUES) {
-			BlockPos offPos = getTilePos().offset(dir);
-			if (!getCluster().connectedToWall) {
-				TileEntity part = getTileWorld().getTileEntity(offPos);
-				if (part instanceof TileFissionPart && ((TileFissionPart) part).getPartPositionType().isGoodForWall()) {
-					getCluster().connectedToWall = true;
-					continue;
+			int offIndex = grid.offset(index, dir, 1);
+			if (offIndex < 0) {
+				if (!getCluster().connectedToWall) {
+					TileEntity part = getTileWorld().getTileEntity(getTilePos().offset(dir));
+					if (part instanceof TileFissionPart && ((TileFissionPart) part).getPartPositionType().isGoodForWall()) {
+						getCluster().connectedToWall = true;
+					}
 				}
+				continue;
 			}
-			IFissionComponent component = getMultiblock().getPartMap(IFissionComponent.class).get(offPos.toLong());
+			IFissionComponent component = grid.getComponent(offIndex);
 			if (component != null) {
 				clusterSearchCache.put(component, id);
 			}
@@ -2,7 +2,7 @@ package nc.tile.fission;
 
 import it.unimi.dsi.fastutil.longs.*;
 import it.unimi.dsi.fastutil.objects.*;
-import nc.multiblock.fission.FissionReactor;
+import nc.multiblock.fission.*;
 import nc.recipe.*;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -107,10 +107,13 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 	}
 	
 	default void defaultDistributeFlux(final ObjectSet<IFissionFuelComponent> fluxSearchCache, final Long2ObjectMap<IFissionComponent> componentFailCache, final Long2ObjectMap<IFissionComponent> assumedValidCache) {
+		final FissionReactorGrid grid = getMultiblock().getGrid();
+		final int index = grid.getIndex(getTilePos());
+		
 		dirLoop:
 		for (EnumFacing dir : EnumFacing.VALUES) {
-			BlockPos offPos = getTilePos().offset(dir);
-			ModeratorBlockInfo activeInfo = componentFailCache.containsKey(offPos.toLong()) ? null : getModeratorBlockInfo(offPos, dir, canSupportActiveModerator(true));
+			int offIndex = grid.offset(index, dir, 1);
+			ModeratorBlockInfo activeInfo = offIndex < 0 || componentFailCache.containsKey(grid.getPosLong(offIndex)) ? null : grid.getModeratorBlockInfo(offIndex, dir, canSupportActiveModerator(true));
 			
 			if (activeInfo != null && !activeInfo.blockingFlux) {
 				final ModeratorLine line = new ModeratorLine(new ObjectArrayList<>(), this);
@@ -120,8 +123,12 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 				double moderatorEfficiency = activeInfo.efficiency;
 				
 				for (int i = 2; i <= fission_neutron_reach + 1; ++i) {
-					offPos = getTilePos().offset(dir, i);
-					ModeratorBlockInfo info = componentFailCache.containsKey(offPos.toLong()) ? null : getModeratorBlockInfo(offPos, dir, canSupportActiveModerator(false));
+					offIndex = grid.offset(index, dir, i);
+					if (offIndex < 0) {
+						continue dirLoop;
+					}
+					long offPosLong = grid.getPosLong(offIndex);
+					ModeratorBlockInfo info = componentFailCache.containsKey(offPosLong) ? null : grid.getModeratorBlockInfo(offIndex, dir, canSupportActiveModerator(false));
 					if (info != null) {
 						if (info.blockingFlux) {
 							continue dirLoop;
@@ -132,7 +139,8 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 						moderatorEfficiency += info.efficiency;
 					}
 					else {
-						IFissionFuelComponent fuelComponent = getLogic().getNextFuelComponent(this, offPos);
+						IFissionComponent component = grid.getComponent(offIndex);
+						IFissionFuelComponent fuelComponent = getLogic().getNextFuelComponent(this, component);
 						if (fuelComponent != null) {
 							line.fluxSink = fuelComponent;
 							fuelComponent.addFlux(line.flux);
@@ -145,7 +153,6 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 							fluxSearchCache.add(fuelComponent);
 						}
 						else {
-							IFissionComponent component = getMultiblock().getPartMap(IFissionComponent.class).get(offPos.toLong());
 							if (component instanceof IFissionFluxSink fluxSink) {
 								if (fluxSink.isAcceptingFlux(dir.getOpposite())) {
 									line.fluxSink = fluxSink;
@@ -158,24 +165,24 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 								}
 							}
 							else if (i - 1 <= fission_neutron_reach / 2) {
-								BasicRecipe recipe = RecipeHelper.blockRecipe(NCRecipes.fission_reflector, getTileWorld(), offPos);
+								BasicRecipe recipe = grid.getReflectorRecipe(offIndex);
 								if (recipe != null) {
 									line.reflectorRecipe = recipe;
-									line.flux = (long) Math.floor(2D * line.flux * recipe.getFissionReflectorReflectivity());
+									line.flux = (long) Math.floor(2D * line.flux * grid.getReflectorReflectivity(offIndex));
 									addFlux(line.flux);
 									getModeratorLineFluxes()[dir.getIndex()] = line.flux;
-									getModeratorLineEfficiencies()[dir.getIndex()] = recipe.getFissionReflectorEfficiency() * moderatorEfficiency / (i - 1);
+									getModeratorLineEfficiencies()[dir.getIndex()] = grid.getReflectorEfficiency(offIndex) * moderatorEfficiency / (i - 1);
 									incrementHeatMultiplier();
 									
 									if (isFunctional()) {
 										onModeratorLineComplete(line, dir);
 										addToModeratorCache(line, getMultiblock().activeModeratorCache, getMultiblock().passiveModeratorCache, componentFailCache, assumedValidCache);
-										getMultiblock().activeReflectorCache.add(offPos.toLong());
+										getMultiblock().activeReflectorCache.add(offPosLong);
 									}
 									else {
 										getModeratorLineCaches()[dir.getIndex()] = line;
 										addToModeratorCache(line, dir, getActiveReflectorModeratorCaches(), getPassiveReflectorModeratorCaches(), componentFailCache, assumedValidCache);
-										getActiveReflectorCache().add(offPos.toLong());
+										getActiveReflectorCache().add(offPosLong);
 									}
 								}
 							}
@@ -206,17 +213,9 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 	}
 	
 	default ModeratorBlockInfo getModeratorBlockInfo(BlockPos pos, EnumFacing dir, boolean validActiveModeratorPos) {
-		IFissionComponent component = getMultiblock().getPartMap(IFissionComponent.class).get(pos.toLong());
-		if (component != null) {
-			return component.getModeratorBlockInfo(dir, validActiveModeratorPos);
-		}
-		
-		BasicRecipe recipe = RecipeHelper.blockRecipe(NCRecipes.fission_moderator, getTileWorld(), pos);
-		if (recipe != null) {
-			return new ModeratorBlockInfo(pos, null, false, validActiveModeratorPos, recipe.getFissionModeratorFluxFactor(), recipe.getFissionModeratorEfficiency());
-		}
-		
-		return null;
+		FissionReactorGrid grid = getMultiblock().getGrid();
+		int index = grid.getIndex(pos);
+		return index < 0 ? null : grid.getModeratorBlockInfo(index, dir, validActiveModeratorPos);
 	}
 	
 	class ModeratorBlockInfo {
@@ -229,7 +228,11 @@ public interface IFissionFuelComponent extends IFissionFluxSink, IFissionHeating
 		public final double efficiency;
 		
 		public ModeratorBlockInfo(BlockPos pos, IFissionComponent component, boolean blockingFlux, boolean validActiveModeratorPos, long fluxFactor, double efficiency) {
-			posLong = pos.toLong();
+			this(pos.toLong(), component, blockingFlux, validActiveModeratorPos, fluxFactor, efficiency);
+		}
+		
+		public ModeratorBlockInfo(long posLong, IFissionComponent component, boolean blockingFlux, boolean validActiveModeratorPos, long fluxFactor, double efficiency) {
+			this.posLong = posLong;
 			this.component = component;
 			this.blockingFlux = blockingFlux;
 			this.validActiveModeratorPos = validActiveModeratorPos;
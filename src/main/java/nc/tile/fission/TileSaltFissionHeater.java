@@ -379,7 +379,7 @@ public class TileSaltFissionHeater extends TileFissionPart implements IBasicProc
 			return isInValidPosition = false;
 		}
 		else if (placementRule.requiresRecheck()) {
-			isInValidPosition = placementRule.satisfied(this);
+			isInValidPosition = getMultiblock().isPlacementRuleSatisfied(this, placementRule);
 			if (isInValidPosition) {
 				assumedValidCache.put(pos.toLong(), this);
 			}
@@ -388,7 +388,7 @@ public class TileSaltFissionHeater extends TileFissionPart implements IBasicProc
 		else if (isInValidPosition) {
 			return true;
 		}
-		return isInValidPosition = placementRule.satisfied(this);
+		return isInValidPosition = getMultiblock().isPlacementRuleSatisfied(this, placementRule);
 	}
 	
 	@Override
@@ -500,7 +500,7 @@ public class TileSaltFissionVessel extends TileFissionPart implements IBasicProc
 			updateDecayFractions();
 			
 			if (shouldRefresh) {
-				getMultiblock().refreshFlag = true;
+				getMultiblock().addFuelComponentToRefresh(this);
 			}
 		}
 	}
@@ -584,7 +584,7 @@ public class TileSaltFissionVessel extends TileFissionPart implements IBasicProc
 		}
 		
 		if (refreshReactor) {
-			getMultiblock().refreshFlag = true;
+			getMultiblock().addFuelComponentToRefresh(this);
 		}
 		else if (refreshCluster) {
 			getMultiblock().addClusterToRefresh(cluster);
@@ -610,7 +610,7 @@ public class TileSaltFissionVessel extends TileFissionPart implements IBasicProc
 		boolean wasReady = readyToProcess(false);
 		canProcessInputs = canProcessInputs();
 		if (getMultiblock() != null && !wasReady && readyToProcess(false)) {
-			getMultiblock().refreshFlag = true;
+			getMultiblock().addFuelComponentToRefresh(this);
 		}
 	}
 	
@@ -785,7 +785,7 @@ public class TileSaltFissionVessel extends TileFissionPart implements IBasicProc
 			if (canProcessInputs) {
 				if (oldProcessHeat != baseProcessHeat || oldProcessEfficiency != baseProcessEfficiency || oldProcessDecayFactor != baseProcessDecayFactor || oldCriticality != getCriticality()) {
 					if (!hasEnoughFlux()) {
-						getMultiblock().refreshFlag = true;
+						getMultiblock().addFuelComponentToRefresh(this);
 					}
 					else {
 						getMultiblock().addClusterToRefresh(cluster);
@@ -794,7 +794,7 @@ public class TileSaltFissionVessel extends TileFissionPart implements IBasicProc
 			}
 			else {
 				sourceEfficiency = null;
-				getMultiblock().refreshFlag = true;
+				getMultiblock().addFuelComponentToRefresh(this);
 			}
 		}
 	}
@@ -462,7 +462,7 @@ public class TileSolidFissionCell extends TileFissionPart implements IBasicProce
 			updateDecayFractions();
 			
 			if (shouldRefresh) {
-				getMultiblock().refreshFlag = true;
+				getMultiblock().addFuelComponentToRefresh(this);
 			}
 		}
 	}
@@ -546,7 +546,7 @@ public class TileSolidFissionCell extends TileFissionPart implements IBasicProce
 		}
 		
 		if (refreshReactor) {
-			getMultiblock().refreshFlag = true;
+			getMultiblock().addFuelComponentToRefresh(this);
 		}
 		else if (refreshCluster) {
 			getMultiblock().addClusterToRefresh(cluster);
@@ -572,7 +572,7 @@ public class TileSolidFissionCell extends TileFissionPart implements IBasicProce
 		boolean wasReady = readyToProcess(false);
 		canProcessInputs = canProcessInputs();
 		if (/* selfPriming && */ getMultiblock() != null && !wasReady && readyToProcess(false)) {
-			getMultiblock().refreshFlag = true;
+			getMultiblock().addFuelComponentToRefresh(this);
 		}
 	}
 	
@@ -747,7 +747,7 @@ public class TileSolidFissionCell extends TileFissionPart implements IBasicProce
 			if (canProcessInputs) {
 				if (oldProcessHeat != baseProcessHeat || oldProcessEfficiency != baseProcessEfficiency || oldProcessDecayFactor != baseProcessDecayFactor || oldCriticality != getCriticality()) {
 					if (!hasEnoughFlux()) {
-						getMultiblock().refreshFlag = true;
+						getMultiblock().addFuelComponentToRefresh(this);
 					}
 					else {
 						getMultiblock().addClusterToRefresh(cluster);
@@ -756,7 +756,7 @@ public class TileSolidFissionCell extends TileFissionPart implements IBasicProce
 			}
 			else {
 				sourceEfficiency = null;
-				getMultiblock().refreshFlag = true;
+				getMultiblock().addFuelComponentToRefresh(this);
 			}
 		}
 	}
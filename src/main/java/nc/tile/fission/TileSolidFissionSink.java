@@ -308,7 +308,7 @@ public class TileSolidFissionSink extends TileFissionPart implements IFissionCoo
 			return isInValidPosition = false;
 		}
 		else if (placementRule.requiresRecheck()) {
-			isInValidPosition = placementRule.satisfied(this);
+			isInValidPosition = getMultiblock().isPlacementRuleSatisfied(this, placementRule);
 			if (isInValidPosition) {
 				assumedValidCache.put(pos.toLong(), this);
 			}
@@ -317,7 +317,7 @@ public class TileSolidFissionSink extends TileFissionPart implements IFissionCoo
 		else if (isInValidPosition) {
 			return true;
 		}
-		return isInValidPosition = placementRule.satisfied(this);
+		return isInValidPosition = getMultiblock().isPlacementRuleSatisfied(this, placementRule);
 	}
 	
 	@Override
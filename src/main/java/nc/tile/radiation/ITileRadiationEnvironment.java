@@ -14,6 +14,11 @@ public interface ITileRadiationEnvironment extends ITile {
 	
 	void handleRadiationEnvironmentInfo(RadiationEnvironmentInfo info);
 	
+	/**
+	 * Called when the block at the info's position changes.
+	 */
+	void handleRadiationEnvironmentBlockChange(RadiationEnvironmentInfo info);
+	
 	double getRadiationContributionFraction();
 	
 	double getCurrentChunkRadiationLevel();
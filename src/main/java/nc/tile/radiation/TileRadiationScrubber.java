@@ -1,5 +1,6 @@
 package nc.tile.radiation;
 
+import it.unimi.dsi.fastutil.longs.*;
 import li.cil.oc.api.machine.*;
 import nc.capability.radiation.source.IRadiationSource;
 import nc.radiation.*;
@@ -13,10 +14,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.Optional;
 
-import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.concurrent.*;
-
 import static nc.config.NCConfig.*;
 
 @Optional.Interface(iface = "li.cil.oc.api.network.SimpleComponent", modid = "opencomputers")
@@ -24,7 +21,11 @@ public class TileRadiationScrubber extends TileBasicEnergyProcessor<TileRadiatio
 	
 	private double efficiency = 0D, scrubberFraction = 0D, currentChunkLevel = 0D, currentChunkBuffer = 0D;
 	
-	public final ConcurrentMap<BlockPos, Integer> occlusionMap = new ConcurrentHashMap<>();
+	/**
+	 * Occlusive positions in range, mapped to the number of scrubbers covering them. Filled by a single scan once the scrubber starts ticking, then kept up to date by block change events and the environment round-robin.
+	 */
+	public final Long2IntMap occlusionMap = new Long2IntOpenHashMap();
+	private boolean occlusionScanned = false;
 	
 	private int radCheckCount = RadiationHandler.RAND.nextInt(machine_update_rate * 20);
 	
@@ -49,6 +50,11 @@ public class TileRadiationScrubber extends TileBasicEnergyProcessor<TileRadiatio
 	@Override
 	public void update() {
 		if (!world.isRemote) {
+			if (!occlusionScanned) {
+				scanOcclusion();
+				occlusionScanned = true;
+			}
+			
 			boolean wasProcessing = isProcessing, shouldUpdate = false;
 			isProcessing = isProcessing();
 			if (isProcessing) {
@@ -120,6 +126,12 @@ public class TileRadiationScrubber extends TileBasicEnergyProcessor<TileRadiatio
 		RadiationEnvironmentHandler.removeTile(this);
 	}
 	
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		RadiationEnvironmentHandler.removeTile(this);
+	}
+	
 	// Processing
 	
 	@Override
@@ -162,34 +174,69 @@ public class TileRadiationScrubber extends TileBasicEnergyProcessor<TileRadiatio
 	
 	@Override
 	public void checkRadiationEnvironmentInfo() {
+		long startTime = RadiationProfiler.time();
 		double newScrubberFraction = getMaxScrubberFraction();
 		
-		Iterator<Entry<BlockPos, Integer>> occlusionIterator = occlusionMap.entrySet().iterator();
-		
-		int occlusionCount = 0;
+		int occlusionCount = occlusionMap.size();
 		double tileCount = 0D;
-		while (occlusionIterator.hasNext()) {
-			Entry<BlockPos, Integer> occlusion = occlusionIterator.next();
-			
-			if (isOcclusive(pos, world, occlusion.getKey())) {
-				newScrubberFraction -= getOcclusionPenalty() / pos.distanceSq(occlusion.getKey());
-				++occlusionCount;
-				tileCount += Math.max(1D, Math.sqrt(occlusion.getValue()));
-			}
-			else {
-				occlusionIterator.remove();
-			}
+		for (Long2IntMap.Entry occlusion : occlusionMap.long2IntEntrySet()) {
+			newScrubberFraction -= getOcclusionPenalty() / pos.distanceSq(BlockPos.fromLong(occlusion.getLongKey()));
+			tileCount += Math.max(1D, Math.sqrt(occlusion.getIntValue()));
 		}
 		
 		scrubberFraction = efficiency * (occlusionCount == 0 ? getMaxScrubberFraction() : Math.max(0D, newScrubberFraction * occlusionCount / tileCount));
+		RadiationProfiler.addTime(world, RadiationProfiler.Phase.SCRUBBER_CHECK, startTime);
 	}
 	
 	@Override
 	public void handleRadiationEnvironmentInfo(RadiationEnvironmentInfo info) {
-		FourPos fourPos = getFourPos(), infoPos = info.pos;
-		if (fourPos.getDimension() == infoPos.getDimension() && !fourPos.equals(infoPos) && !info.tileMap.isEmpty() /* && isOcclusive(fourPos.getBlockPos(), world, infoPos.getBlockPos()) */) {
-			occlusionMap.put(infoPos.getBlockPos(), Math.max(1, info.tileMap.size()));
+		updateOcclusion(info);
+	}
+	
+	@Override
+	public void handleRadiationEnvironmentBlockChange(RadiationEnvironmentInfo info) {
+		updateOcclusion(info);
+	}
+	
+	protected void updateOcclusion(RadiationEnvironmentInfo info) {
+		FourPos infoPos = info.pos;
+		BlockPos otherPos = infoPos.getBlockPos();
+		if (infoPos.getDimension() != world.provider.getDimension() || otherPos.equals(pos)) {
+			return;
+		}
+		
+		if (!info.tileMap.isEmpty() && isOcclusive(pos, world, otherPos)) {
+			occlusionMap.put(otherPos.toLong(), Math.max(1, info.tileMap.size()));
+		}
+		else {
+			occlusionMap.remove(otherPos.toLong());
+		}
+	}
+	
+	/**
+	 * Initial occlusion scan over the loaded part of the scrubber's range. Positions in chunks which are not yet loaded are picked up later by the environment round-robin.
+	 */
+	protected void scanOcclusion() {
+		long startTime = RadiationProfiler.time();
+		occlusionMap.clear();
+		int dimension = world.provider.getDimension();
+		BlockPos.MutableBlockPos otherPos = new BlockPos.MutableBlockPos();
+		for (int x = -radiation_scrubber_radius; x <= radiation_scrubber_radius; ++x) {
+			for (int y = -radiation_scrubber_radius; y <= radiation_scrubber_radius; ++y) {
+				for (int z = -radiation_scrubber_radius; z <= radiation_scrubber_radius; ++z) {
+					if (x == 0 && y == 0 && z == 0) {
+						continue;
+					}
+					
+					otherPos.setPos(pos.getX() + x, pos.getY() + y, pos.getZ() + z);
+					if (world.isBlockLoaded(otherPos) && isOcclusive(pos, world, otherPos)) {
+						RadiationEnvironmentInfo info = RadiationEnvironmentHandler.getInfo(dimension, otherPos);
+						occlusionMap.put(otherPos.toLong(), info == null ? 1 : Math.max(1, info.tileMap.size()));
+					}
+				}
+			}
 		}
+		RadiationProfiler.addTime(world, RadiationProfiler.Phase.SCRUBBER_CHECK, startTime);
 	}
 	
 	@Override
@@ -266,8 +313,6 @@ public class TileRadiationScrubber extends TileBasicEnergyProcessor<TileRadiatio
 		nbt.setDouble("scrubberFraction", scrubberFraction);
 		nbt.setDouble("currentChunkLevel", currentChunkLevel);
 		nbt.setDouble("currentChunkBuffer", currentChunkBuffer);
-		
-		NBTHelper.writeBlockPosToIntegerMap(nbt, occlusionMap, "occlusionMap");
 		return nbt;
 	}
 	
@@ -281,8 +326,6 @@ public class TileRadiationScrubber extends TileBasicEnergyProcessor<TileRadiatio
 		scrubberFraction = nbt.getDouble("scrubberFraction");
 		currentChunkLevel = nbt.getDouble("currentChunkLevel");
 		currentChunkBuffer = nbt.getDouble("currentChunkBuffer");
-		
-		NBTHelper.readBlockPosToIntegerMap(nbt, occlusionMap, "occlusionMap");
 	}
 	
 	// OpenComputers
@@ -18,6 +18,20 @@ public class Complex {
 		return new double[] {re1 * re2 - im1 * im2, re1 * im2 + im1 * re2};
 	}
 	
+	/**
+	 * Real part of the product, for use in loops where allocating a result array per element is too costly.
+	 */
+	public static double multiplyRe(double re1, double im1, double re2, double im2) {
+		return re1 * re2 - im1 * im2;
+	}
+	
+	/**
+	 * Imaginary part of the product, for use in loops where allocating a result array per element is too costly.
+	 */
+	public static double multiplyIm(double re1, double im1, double re2, double im2) {
+		return re1 * im2 + im1 * re2;
+	}
+	
 	public static double[] reciprocal(double re, double im) {
 		double scale = absSq(re, im);
 		return new double[] {re / scale, -im / scale};
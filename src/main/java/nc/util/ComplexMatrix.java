@@ -81,24 +81,28 @@ public class ComplexMatrix {
 	}
 	
 	public ComplexMatrix hadamardProduct(ComplexMatrix m) {
-		double[] c;
+		double r, c, mr, mc;
 		for (int i = 0; i < dim; ++i) {
 			for (int j = 0; j < dim; ++j) {
-				c = Complex.multiply(re[i][j], im[i][j], m.re[i][j], m.im[i][j]);
-				re[i][j] = c[0];
-				im[i][j] = c[1];
+				r = re[i][j];
+				c = im[i][j];
+				mr = m.re[i][j];
+				mc = m.im[i][j];
+				re[i][j] = Complex.multiplyRe(r, c, mr, mc);
+				im[i][j] = Complex.multiplyIm(r, c, mr, mc);
 			}
 		}
 		return this;
 	}
 	
 	public ComplexMatrix multiply(double reIn, double imIn) {
-		double[] c;
+		double r, c;
 		for (int i = 0; i < dim; ++i) {
 			for (int j = 0; j < dim; ++j) {
-				c = Complex.multiply(re[i][j], im[i][j], reIn, imIn);
-				re[i][j] = c[0];
-				im[i][j] = c[1];
+				r = re[i][j];
+				c = im[i][j];
+				re[i][j] = Complex.multiplyRe(r, c, reIn, imIn);
+				im[i][j] = Complex.multiplyIm(r, c, reIn, imIn);
 			}
 		}
 		return this;
@@ -114,20 +118,57 @@ public class ComplexMatrix {
 		return this;
 	}
 	
+	/**
+	 * Only the current row is copied before being overwritten, so this allocates two arrays rather than a full copy.
+	 */
 	public ComplexMatrix multiply(ComplexMatrix m) {
-		ComplexMatrix copy = copy();
-		double[] c;
+		if (m == this) {
+			m = copy();
+		}
+		
+		double[] rowRe = new double[dim], rowIm = new double[dim];
 		for (int i = 0; i < dim; ++i) {
+			System.arraycopy(re[i], 0, rowRe, 0, dim);
+			System.arraycopy(im[i], 0, rowIm, 0, dim);
+			multiplyRow(rowRe, rowIm, m, re[i], im[i]);
+		}
+		return this;
+	}
+	
+	/**
+	 * Writes the product of the two matrices into the output matrix, which must be neither of the inputs.
+	 */
+	public static ComplexMatrix multiply(ComplexMatrix a, ComplexMatrix b, ComplexMatrix out) {
+		for (int i = 0; i < a.dim; ++i) {
+			multiplyRow(a.re[i], a.im[i], b, out.re[i], out.im[i]);
+		}
+		return out;
+	}
+	
+	/**
+	 * Row-matrix product kernel, accumulated row by row of the matrix so that the innermost loop runs over contiguous entries.
+	 */
+	protected static void multiplyRow(double[] rowRe, double[] rowIm, ComplexMatrix m, double[] outRe, double[] outIm) {
+		int dim = m.dim;
+		Arrays.fill(outRe, 0, dim, 0D);
+		Arrays.fill(outIm, 0, dim, 0D);
+		
+		double r, c;
+		double[] mRe, mIm;
+		for (int k = 0; k < dim; ++k) {
+			r = rowRe[k];
+			c = rowIm[k];
+			if (r == 0D && c == 0D) {
+				continue;
+			}
+			
+			mRe = m.re[k];
+			mIm = m.im[k];
 			for (int j = 0; j < dim; ++j) {
-				re[i][j] = im[i][j] = 0D;
-				for (int k = 0; k < dim; ++k) {
-					c = Complex.multiply(copy.re[i][k], copy.im[i][k], m.re[k][j], m.im[k][j]);
-					re[i][j] += c[0];
-					im[i][j] += c[1];
-				}
+				outRe[j] += r * mRe[j] - c * mIm[j];
+				outIm[j] += r * mIm[j] + c * mRe[j];
 			}
 		}
-		return this;
 	}
 	
 	public double[] expectation(ComplexVector v) {
@@ -163,15 +204,13 @@ public class ComplexMatrix {
 			return new double[] {re[0][0], im[0][0]};
 		}
 		else if (dim == 2) {
-			double[] ad = Complex.multiply(re[0][0], im[0][0], re[1][1], im[1][1]);
-			double[] bc = Complex.multiply(re[0][1], im[0][1], re[1][0], im[1][0]);
-			return new double[] {ad[0] - bc[0], ad[1] - bc[1]};
+			return new double[] {Complex.multiplyRe(re[0][0], im[0][0], re[1][1], im[1][1]) - Complex.multiplyRe(re[0][1], im[0][1], re[1][0], im[1][0]), Complex.multiplyIm(re[0][0], im[0][0], re[1][1], im[1][1]) - Complex.multiplyIm(re[0][1], im[0][1], re[1][0], im[1][0])};
 		}
 		
-		double re1, im1, re2, im2;
+		double re1, im1, re2, im2, r, c;
 		int index;
 		
-		double[] det = new double[] {1D, 0D}, total = new double[] {1D, 0D};
+		double detRe = 1D, detIm = 0D, totalRe = 1D, totalIm = 0D;
 		double[] tempRe = new double[dim + 1], tempIm = new double[dim + 1];
 		
 		ComplexMatrix m = copy();
@@ -191,7 +230,8 @@ public class ComplexMatrix {
 				for (int j = 0; j < dim; ++j) {
 					m.swap(index, j, i, j);
 				}
-				det = Complex.multiply(det[0], det[1], -1D, 0D);
+				detRe = -detRe;
+				detIm = -detIm;
 			}
 			
 			for (int j = 0; j < dim; ++j) {
@@ -205,21 +245,26 @@ public class ComplexMatrix {
 				re2 = m.re[j][i];
 				im2 = m.im[j][i];
 				
+				double[] rowRe = m.re[j], rowIm = m.im[j];
 				for (int k = 0; k < dim; ++k) {
-					double[] ad = Complex.multiply(re1, im1, m.re[j][k], m.im[j][k]);
-					double[] bc = Complex.multiply(re2, im2, tempRe[k], tempIm[k]);
-					m.re[j][k] = ad[0] - bc[0];
-					m.im[j][k] = ad[1] - bc[1];
+					r = rowRe[k];
+					c = rowIm[k];
+					rowRe[k] = re1 * r - im1 * c - (re2 * tempRe[k] - im2 * tempIm[k]);
+					rowIm[k] = re1 * c + im1 * r - (re2 * tempIm[k] + im2 * tempRe[k]);
 				}
-				total = Complex.multiply(total[0], total[1], re1, im1);
+				r = totalRe;
+				totalRe = Complex.multiplyRe(r, totalIm, re1, im1);
+				totalIm = Complex.multiplyIm(r, totalIm, re1, im1);
 			}
 		}
 		
 		for (int i = 0; i < dim; ++i) {
-			det = Complex.multiply(det[0], det[1], m.re[i][i], m.im[i][i]);
+			r = detRe;
+			detRe = Complex.multiplyRe(r, detIm, m.re[i][i], m.im[i][i]);
+			detIm = Complex.multiplyIm(r, detIm, m.re[i][i], m.im[i][i]);
 		}
 		
-		return Complex.divide(det[0], det[1], total[0], total[1]);
+		return Complex.divide(detRe, detIm, totalRe, totalIm);
 	}
 	
 	public ComplexMatrix transpose() {
@@ -233,6 +278,9 @@ public class ComplexMatrix {
 		return this;
 	}
 	
+	/**
+	 * Folds the operands from the left with {@link #kronecker(ComplexMatrix, ComplexMatrix, ComplexMatrix)}, so the first operand's indices are the most significant.
+	 */
 	public static ComplexMatrix tensorProduct(ComplexMatrix... a) {
 		if (a.length == 0) {
 			return new ComplexMatrix(0);
@@ -241,56 +289,37 @@ public class ComplexMatrix {
 			return a[0];
 		}
 		
-		int dim = a[0].dim, mul = 1, _j;
+		ComplexMatrix m = a[0];
 		for (int j = 1; j < a.length; ++j) {
-			dim *= a[j].dim;
+			m = kronecker(m, a[j], new ComplexMatrix(m.dim * a[j].dim));
 		}
-		
-		ComplexMatrix m = new ComplexMatrix(dim);
-		double[] c;
-		int[] length = new int[a.length], count = new int[2 * a.length], mult = new int[a.length];
-		for (int j = 0; j < a.length; ++j) {
-			length[j] = a[j].dim;
-			if (j > 0) {
-				mul *= a[a.length - j].dim;
-			}
-			mult[a.length - j - 1] = mul;
-		}
-		Arrays.fill(count, 0);
-		
-		boolean end;
-		while (true) {
-			int u = 0, v = 0;
-			for (int j = 0; j < a.length; ++j) {
-				u += mult[j] * count[2 * j];
-				v += mult[j] * count[2 * j + 1];
-			}
-			
-			c = Complex.multiply(a[0].re[count[0]][count[1]], a[0].im[count[0]][count[1]], a[1].re[count[2]][count[3]], a[1].im[count[2]][count[3]]);
-			
-			for (int j = 2; j < a.length; ++j) {
-				c = Complex.multiply(c[0], c[1], a[j].re[count[2 * j]][count[2 * j + 1]], a[j].im[count[2 * j]][count[2 * j + 1]]);
-			}
-			m.re[u][v] = c[0];
-			m.im[u][v] = c[1];
-			
-			end = true;
-			for (int j = 0; j < count.length; ++j) {
-				_j = count.length - j - 1;
-				if (count[_j] < length[_j / 2] - 1) {
-					++count[_j];
-					end = false;
-					break;
-				}
-				else {
-					count[_j] = 0;
+		return m;
+	}
+	
+	/**
+	 * Kronecker product kernel, writing into an output matrix of dimension a.dim * b.dim.
+	 */
+	public static ComplexMatrix kronecker(ComplexMatrix a, ComplexMatrix b, ComplexMatrix out) {
+		int dimB = b.dim;
+		double r, c;
+		double[] bRe, bIm, outRe, outIm;
+		for (int ia = 0; ia < a.dim; ++ia) {
+			for (int ib = 0; ib < dimB; ++ib) {
+				bRe = b.re[ib];
+				bIm = b.im[ib];
+				outRe = out.re[ia * dimB + ib];
+				outIm = out.im[ia * dimB + ib];
+				for (int ja = 0; ja < a.dim; ++ja) {
+					r = a.re[ia][ja];
+					c = a.im[ia][ja];
+					for (int jb = 0, offset = ja * dimB; jb < dimB; ++jb) {
+						outRe[offset + jb] = r * bRe[jb] - c * bIm[jb];
+						outIm[offset + jb] = r * bIm[jb] + c * bRe[jb];
+					}
 				}
 			}
-			
-			if (end) {
-				return m;
-			}
 		}
+		return out;
 	}
 	
 	public ComplexMatrix commute(ComplexMatrix a) {
@@ -2,12 +2,23 @@ package nc.util;
 
 import net.minecraft.nbt.NBTTagCompound;
 
+import javax.annotation.Nullable;
+import java.nio.*;
+import java.util.concurrent.ForkJoinPool;
+
 public class ComplexVector {
 	
+	/**
+	 * Sums over the vector are taken over fixed blocks of this size and then combined in order, so they do not depend on whether the blocks are run in parallel.
+	 */
+	public static final int BLOCK_SIZE = 1 << 12;
+	
 	public final int dim;
 	public final double[] re;
 	public final double[] im;
 	
+	protected double[] bufferRe = null, bufferIm = null;
+	
 	public ComplexVector(int dim) {
 		this.dim = dim;
 		re = new double[dim];
@@ -16,10 +27,8 @@ public class ComplexVector {
 	
 	public ComplexVector copy() {
 		ComplexVector v = new ComplexVector(dim);
-		for (int i = 0; i < dim; ++i) {
-			v.re[i] = re[i];
-			v.im[i] = im[i];
-		}
+		System.arraycopy(re, 0, v.re, 0, dim);
+		System.arraycopy(im, 0, v.im, 0, dim);
 		return v;
 	}
 	
@@ -30,45 +39,114 @@ public class ComplexVector {
 		}
 	}
 	
+	/**
+	 * Maps this vector in place, using an internal buffer for the old entries rather than a fresh copy.
+	 */
 	public ComplexVector map(ComplexMatrix m) {
-		ComplexVector v = copy();
-		double[] c;
+		if (bufferRe == null) {
+			bufferRe = new double[dim];
+			bufferIm = new double[dim];
+		}
+		System.arraycopy(re, 0, bufferRe, 0, dim);
+		System.arraycopy(im, 0, bufferIm, 0, dim);
+		map(m, bufferRe, bufferIm, re, im);
+		return this;
+	}
+	
+	/**
+	 * Writes the product of the matrix and this vector into the output vector, which must not be this vector.
+	 */
+	public ComplexVector map(ComplexMatrix m, ComplexVector out) {
+		map(m, re, im, out.re, out.im);
+		return out;
+	}
+	
+	/**
+	 * Matrix-vector product kernel. The input and output arrays must not overlap.
+	 */
+	public static void map(ComplexMatrix m, double[] inRe, double[] inIm, double[] outRe, double[] outIm) {
+		int dim = m.dim;
+		double[] rowRe, rowIm;
+		double reSum, imSum;
 		for (int i = 0; i < dim; ++i) {
-			re[i] = 0D;
-			im[i] = 0D;
+			rowRe = m.re[i];
+			rowIm = m.im[i];
+			reSum = imSum = 0D;
 			for (int j = 0; j < dim; ++j) {
-				c = Complex.multiply(m.re[i][j], m.im[i][j], v.re[j], v.im[j]);
-				re[i] += c[0];
-				im[i] += c[1];
+				reSum += rowRe[j] * inRe[j] - rowIm[j] * inIm[j];
+				imSum += rowRe[j] * inIm[j] + rowIm[j] * inRe[j];
 			}
+			outRe[i] = reSum;
+			outIm[i] = imSum;
+		}
+	}
+	
+	/**
+	 * Adds the product of the scalar and the vector to this vector.
+	 */
+	public ComplexVector addMultiplied(double reIn, double imIn, ComplexVector v) {
+		double r, c;
+		for (int i = 0; i < dim; ++i) {
+			r = v.re[i];
+			c = v.im[i];
+			re[i] += reIn * r - imIn * c;
+			im[i] += reIn * c + imIn * r;
 		}
 		return this;
 	}
 	
 	public double absSq() {
+		return absSq(null);
+	}
+	
+	public double absSq(@Nullable ForkJoinPool pool) {
+		int blocks = (dim + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		if (blocks <= 1) {
+			return absSq(0, dim);
+		}
+		
+		double[] partial = new double[blocks];
+		ParallelHelper.forRange(pool, blocks, 1, (start, end) -> {
+			for (int b = start; b < end; ++b) {
+				partial[b] = absSq(b * BLOCK_SIZE, Math.min(dim, (b + 1) * BLOCK_SIZE));
+			}
+		});
+		
 		double n = 0D;
-		for (int i = 0; i < dim; ++i) {
+		for (double p : partial) {
+			n += p;
+		}
+		return n;
+	}
+	
+	protected double absSq(int start, int end) {
+		double n = 0D;
+		for (int i = start; i < end; ++i) {
 			n += Complex.absSq(re[i], im[i]);
 		}
 		return n;
 	}
 	
 	public ComplexVector normalize() {
-		double scale = Math.sqrt(absSq());
-		for (int i = 0; i < dim; ++i) {
-			re[i] /= scale;
-			im[i] /= scale;
-		}
+		return normalize(null);
+	}
+	
+	public ComplexVector normalize(@Nullable ForkJoinPool pool) {
+		double scale = Math.sqrt(absSq(pool));
+		ParallelHelper.forRange(pool, dim, BLOCK_SIZE, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				re[i] /= scale;
+				im[i] /= scale;
+			}
+		});
 		return this;
 	}
 	
 	public double[] dot(ComplexVector v) {
 		double reSum = 0D, imSum = 0D;
-		double[] c;
 		for (int i = 0; i < dim; ++i) {
-			c = Complex.multiply(re[i], -im[i], v.re[i], v.im[i]);
-			reSum += c[0];
-			imSum += c[1];
+			reSum += re[i] * v.re[i] + im[i] * v.im[i];
+			imSum += re[i] * v.im[i] - im[i] * v.re[i];
 		}
 		return new double[] {reSum, imSum};
 	}
@@ -82,27 +160,48 @@ public class ComplexVector {
 		return "[" + s.substring(2) + "]";
 	}
 	
+	/**
+	 * The parts are stored as packed byte arrays rather than as one tag per entry, so large vectors stay well within NBT size limits.
+	 */
 	public NBTTagCompound writeToNBT(NBTTagCompound nbt, String name) {
 		NBTTagCompound vectorTag = new NBTTagCompound();
 		vectorTag.setInteger("dim", dim);
-		for (int i = 0; i < dim; ++i) {
-			vectorTag.setDouble("re" + i, re[i]);
-			vectorTag.setDouble("im" + i, im[i]);
-		}
+		vectorTag.setByteArray("re", pack(re));
+		vectorTag.setByteArray("im", pack(im));
 		nbt.setTag(name, vectorTag);
 		return nbt;
 	}
 	
+	/**
+	 * Also reads vectors written in the older format with one tag per entry.
+	 */
 	public static ComplexVector readFromNBT(NBTTagCompound nbt, String name) {
 		if (nbt.hasKey(name, 10)) {
 			NBTTagCompound vectorTag = nbt.getCompoundTag(name);
 			ComplexVector v = new ComplexVector(vectorTag.getInteger("dim"));
-			for (int i = 0; i < v.dim; ++i) {
-				v.re[i] = vectorTag.getDouble("re" + i);
-				v.im[i] = vectorTag.getDouble("im" + i);
+			if (vectorTag.hasKey("re", 7) && vectorTag.hasKey("im", 7)) {
+				unpack(vectorTag.getByteArray("re"), v.re);
+				unpack(vectorTag.getByteArray("im"), v.im);
+			}
+			else {
+				for (int i = 0; i < v.dim; ++i) {
+					v.re[i] = vectorTag.getDouble("re" + i);
+					v.im[i] = vectorTag.getDouble("im" + i);
+				}
 			}
 			return v;
 		}
 		return new ComplexVector(0);
 	}
+	
+	protected static byte[] pack(double[] values) {
+		ByteBuffer buffer = ByteBuffer.allocate(8 * values.length);
+		buffer.asDoubleBuffer().put(values);
+		return buffer.array();
+	}
+	
+	protected static void unpack(byte[] bytes, double[] values) {
+		DoubleBuffer buffer = ByteBuffer.wrap(bytes).asDoubleBuffer();
+		buffer.get(values, 0, Math.min(values.length, buffer.remaining()));
+	}
 }
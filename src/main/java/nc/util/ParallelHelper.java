@@ -0,0 +1,89 @@
+package nc.util;
+
+import java.util.concurrent.*;
+import java.util.function.IntSupplier;
+
+public class ParallelHelper {
+	
+	@FunctionalInterface
+	public interface IntRangeConsumer {
+		
+		void accept(int start, int end);
+	}
+	
+	public static ForkJoinPool newPool(String name, int parallelism) {
+		return new ForkJoinPool(parallelism, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName(name + "-" + thread.getPoolIndex());
+			thread.setDaemon(true);
+			return thread;
+		}, null, false);
+	}
+	
+	/**
+	 * Splits [0, size) into contiguous ranges of at least minRangeSize elements and runs them on the pool, returning once all have finished. Runs inline on the calling thread if the pool is null or the range is too small to split.
+	 */
+	public static void forRange(ForkJoinPool pool, int size, int minRangeSize, IntRangeConsumer action) {
+		if (pool == null || size <= minRangeSize) {
+			action.accept(0, size);
+		}
+		else {
+			int rangeSize = Math.max(minRangeSize, size / (4 * pool.getParallelism()));
+			pool.invoke(new RangeAction(action, 0, size, rangeSize));
+		}
+	}
+	
+	protected static class RangeAction extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		protected final IntRangeConsumer action;
+		protected final int start, end, rangeSize;
+		
+		protected RangeAction(IntRangeConsumer action, int start, int end, int rangeSize) {
+			this.action = action;
+			this.start = start;
+			this.end = end;
+			this.rangeSize = rangeSize;
+		}
+		
+		@Override
+		protected void compute() {
+			if (end - start <= rangeSize) {
+				action.accept(start, end);
+			}
+			else {
+				int mid = (start + end) >>> 1;
+				invokeAll(new RangeAction(action, start, mid, rangeSize), new RangeAction(action, mid, end, rangeSize));
+			}
+		}
+	}
+	
+	/**
+	 * Fork-join pool sized from a config value, created on first use and recreated if the value changes. A parallelism below 2 means work should run inline, and no pool is kept.
+	 */
+	public static class ConfigPool {
+		
+		protected final String name;
+		protected final IntSupplier parallelism;
+		
+		protected ForkJoinPool pool = null;
+		
+		public ConfigPool(String name, IntSupplier parallelism) {
+			this.name = name;
+			this.parallelism = parallelism;
+		}
+		
+		public synchronized ForkJoinPool get() {
+			int threads = parallelism.getAsInt();
+			if (pool != null && pool.getParallelism() != threads) {
+				pool.shutdown();
+				pool = null;
+			}
+			if (pool == null && threads > 1) {
+				pool = newPool(name, threads);
+			}
+			return pool;
+		}
+	}
+}